@@ -0,0 +1,116 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import dice.DiceState;
+import logic.Logic;
+
+/**
+ * Measures how many bytes the scoring queries of a turn allocate, comparing the
+ * array-returning methods of {@link Logic} with the overloads that fill caller-owned buffers.
+ *
+ * A turn is three rolls, each followed by reading the dice, calculating the score and
+ * reading the empty fields, and finally reading the player's score row.
+ */
+public class AllocationBenchmark {
+    private static final int WARMUP_TURNS = 200_000;
+    private static final int MEASURED_TURNS = 1_000_000;
+
+    private final Logic logic = new Logic();
+    private final int[] rolls = new int[1024];
+    private final int[] dices = new int[5];
+    private final int[] scores = new int[19];
+    private final int[] emptyFields = new int[18];
+    private final int[] fieldValues = new int[18];
+    private int checksum;
+
+    /**
+     * Default constructor generating a fixed sequence of rolls to replay.
+     */
+    public AllocationBenchmark() {
+        Random random = new Random(42);
+        for(int i = 0; i < rolls.length; i++) {
+            int state = DiceState.INITIAL;
+            for(int j = 0; j < DiceState.NUMBER_OF_DICES; j++)
+                state = DiceState.withValue(state, j, random.nextInt(6) + 1);
+            rolls[i] = state;
+        }
+    }
+
+    /**
+     * Plays a turn through the allocating methods.
+     *
+     * @param turn Number of the turn, used to pick the rolls.
+     */
+    private void allocatingTurn(int turn) {
+        for(int i = 0; i < 3; i++) {
+            logic.setDiceState(rolls[(turn * 3 + i) & (rolls.length - 1)]);
+            checksum += logic.getDices()[0];
+            checksum += logic.calculateScore(0)[15];
+            checksum += logic.getEmptyFields(0)[0];
+        }
+        checksum += logic.getPlayerScore(0)[17];
+    }
+
+    /**
+     * Plays a turn through the buffer-filling overloads.
+     *
+     * @param turn Number of the turn, used to pick the rolls.
+     */
+    private void bufferedTurn(int turn) {
+        for(int i = 0; i < 3; i++) {
+            logic.setDiceState(rolls[(turn * 3 + i) & (rolls.length - 1)]);
+            checksum += logic.getDices(dices)[0];
+            checksum += logic.calculateScore(0, scores)[15];
+            checksum += logic.getEmptyFields(0, emptyFields)[0];
+            checksum += logic.getEmptyFieldsMask(0) & 1;
+        }
+        checksum += logic.getPlayerScore(0, fieldValues)[17];
+    }
+
+    /**
+     * Runs one variant and prints the bytes it allocated per turn.
+     *
+     * @param name Name of the variant.
+     * @param buffered True to use the buffer-filling overloads.
+     */
+    private void run(String name, boolean buffered) {
+        for(int turn = 0; turn < WARMUP_TURNS; turn++) {
+            if(buffered) bufferedTurn(turn);
+            else allocatingTurn(turn);
+        }
+
+        long before = allocatedBytes();
+        for(int turn = 0; turn < MEASURED_TURNS; turn++) {
+            if(buffered) bufferedTurn(turn);
+            else allocatingTurn(turn);
+        }
+        long after = allocatedBytes();
+
+        System.out.printf("%-12s %10.2f bytes/turn%n", name, (double) (after - before) / MEASURED_TURNS);
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread.
+     *
+     * @return Allocated bytes.
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Command-line arguments, not used.
+     */
+    public static void main(String[] args) {
+        AllocationBenchmark benchmark = new AllocationBenchmark();
+        allocatedBytes();
+        benchmark.run("allocating", false);
+        benchmark.run("buffered", true);
+        System.out.println("checksum: " + benchmark.checksum);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of the game with the GC profiler attached, which reports the
+ * bytes allocated per operation (gc.alloc.rate.norm) next to the time of every benchmark.
+ *
+ * Any JMH command line option can be passed, for example a benchmark name pattern to run
+ * only some benchmarks, or {@code -prof async:event=alloc} for an allocation flame graph
+ * when async-profiler is installed.
+ */
+public class BenchmarkRunner {
+    /**
+     * Default constructor for the BenchmarkRunner class.
+     */
+    public BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options.
+     * @throws CommandLineOptionException If the options are invalid.
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine).addProfiler(GCProfiler.class);
+        if(commandLine.getIncludes().isEmpty())
+            builder.include("benchmark\\.(LogicBenchmark|ReplayBenchmark|SaveGameBenchmark)\\.");
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
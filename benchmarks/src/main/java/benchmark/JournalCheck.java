@@ -0,0 +1,225 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import dice.Dice;
+import logic.Logic;
+import saveGame.GameSnapshot;
+import saveGame.MoveJournal;
+import saveGame.SaveGame;
+
+/**
+ * Records games in move journals, cuts the journals off in the middle of a record, as a crash
+ * while writing would, and checks that recovering them restores the game as it was after the
+ * last complete record.
+ */
+public class JournalCheck {
+    private static final int GAMES = 10;
+    private static final int PLAYERS = 3;
+    private static final int ROUNDS = 10;
+    private static final int[] SCORING_FIELDS = { 0, 1, 2, 3, 4, 5, 9, 10, 11, 12, 13, 14, 15 };
+
+    // A journal starts with the magic number, the game id and the length of the snapshot that follows.
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    // A record holds its type, the player, an argument, a value and its CRC-32 checksum.
+    private static final int RECORD_SIZE = 1 + 4 * Integer.BYTES;
+
+    /**
+     * Default constructor for the JournalCheck class.
+     */
+    public JournalCheck() {}
+
+    /**
+     * Runs the check and exits with status 1 if a recovered game does not match.
+     *
+     * @param args Command-line arguments, not used.
+     * @throws IOException If the journals cannot be written or read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("journal-check");
+        int checked = 0;
+        int failures = 0;
+        try {
+            for(int seed = 0; seed < GAMES; seed++) {
+                Journal journal = record(directory.resolve("game" + seed + ".bin"), seed);
+                for(int move = 0; move < journal.states.size(); move++) {
+                    long end = journal.headerSize + (long) journal.records.get(move) * RECORD_SIZE;
+                    // Cut at the end of the move and inside the record that follows it.
+                    for(int cut : new int[] { 0, 1, RECORD_SIZE / 2, RECORD_SIZE - 1 }) {
+                        if(end + cut > journal.bytes.length)
+                            continue;
+                        checked++;
+                        String failure = recover(directory.resolve("cut.bin"), journal.bytes, end + cut, journal.states.get(move));
+                        if(failure != null) {
+                            System.out.println("Game " + seed + ", move " + move + ", cut at " + (end + cut) + ": " + failure);
+                            failures++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            try(Stream<Path> files = Files.walk(directory)) {
+                for(Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+                    Files.deleteIfExists(file);
+            }
+        }
+        System.out.println("Recovered " + checked + " cut journals, " + failures + " failed.");
+        if(failures > 0)
+            System.exit(1);
+    }
+
+    /**
+     * A recorded journal with the state of the game after every move.
+     */
+    private static final class Journal {
+        private byte[] bytes;
+        private int headerSize;
+        private final List<Integer> records = new ArrayList<>();
+        private final List<byte[]> states = new ArrayList<>();
+
+        /**
+         * Notes the state of the game after a move.
+         *
+         * @param numberOfRecords The number of records written up to and including the move.
+         * @param state The snapshot of the game after the move.
+         */
+        private void addMove(int numberOfRecords, byte[] state) {
+            records.add(numberOfRecords);
+            states.add(state);
+        }
+    }
+
+    /**
+     * Plays rounds of a game with random holds and fields, recording the moves the way the game does.
+     *
+     * @param file The path of the journal.
+     * @param seed The seed of the game.
+     * @return The journal with the state after every move.
+     * @throws IOException If the journal cannot be read.
+     */
+    private static Journal record(Path file, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] players = new String[PLAYERS];
+        for(int i = 0; i < PLAYERS; i++)
+            players[i] = "Player " + (i + 1);
+        Logic logic = new Logic(players, Dice.seeded(seed));
+        SaveGame saveGame = new SaveGame(logic);
+
+        Journal journal = new Journal();
+        byte[] state = GameSnapshot.encode(logic, 0, 0);
+        journal.headerSize = HEADER_SIZE + state.length;
+        journal.addMove(0, state);
+
+        MoveJournal moveJournal = MoveJournal.start(file, saveGame);
+        int numberOfRecords = 0;
+        int[][] journaledScores = logic.getScores();
+        for(int turn = 0; turn < ROUNDS * PLAYERS; turn++) {
+            int player = turn % PLAYERS;
+            int throwsUsed = 0;
+            logic.unsaveDices();
+            do {
+                if(throwsUsed > 0) {
+                    logic.setSavedDices(random.nextInt(32));
+                    moveJournal.recordHold(player, throwsUsed);
+                    journal.addMove(++numberOfRecords, GameSnapshot.encode(logic, player, throwsUsed));
+                }
+                logic.throwDices();
+                moveJournal.recordRoll(player, ++throwsUsed);
+                journal.addMove(++numberOfRecords, GameSnapshot.encode(logic, player, throwsUsed));
+            } while(throwsUsed < 3 && random.nextBoolean());
+
+            fillField(logic, player, random);
+            int nextPlayer = (player + 1) % PLAYERS;
+            moveJournal.recordTurnEnd(player, nextPlayer);
+            // The turn end records every field that changed since the last one.
+            int[][] scores = logic.getScores();
+            for(int i = 0; i < PLAYERS; i++)
+                for(int field = 0; field < scores[i].length; field++)
+                    if(scores[i][field] != journaledScores[i][field])
+                        numberOfRecords++;
+            journaledScores = scores;
+            logic.unsaveDices();
+            journal.addMove(++numberOfRecords, GameSnapshot.encode(logic, nextPlayer, 0));
+        }
+        moveJournal.close();
+
+        // Recovering waits until the journal has been written.
+        String failure = recover(file, journal.states.get(journal.states.size() - 1));
+        if(failure != null)
+            throw new IOException("The complete journal of game " + seed + " is not recovered: " + failure);
+        journal.bytes = Files.readAllBytes(file);
+        if(journal.bytes.length != journal.headerSize + (long) numberOfRecords * RECORD_SIZE)
+            throw new IOException("The journal of game " + seed + " does not have " + numberOfRecords + " records.");
+        return journal;
+    }
+
+    /**
+     * Fills in a random empty field with the score of the last roll, unless a Yahtzee filled its field itself.
+     *
+     * @param logic The game.
+     * @param player The index of the player whose turn it is.
+     * @param random The source of the choice.
+     */
+    private static void fillField(Logic logic, int player, SplittableRandom random) {
+        int[] scores = logic.calculateScore(player, new int[19]);
+        if(scores[18] == -1) {
+            int emptyFields = logic.getEmptyFieldsMask(player);
+            int field;
+            do {
+                field = SCORING_FIELDS[random.nextInt(SCORING_FIELDS.length)];
+            } while((emptyFields & 1 << field) == 0);
+            logic.saveField(player, field, scores);
+        }
+        logic.updateAutomaticValues(player);
+    }
+
+    /**
+     * Writes the start of a journal to a file and recovers the game from it.
+     *
+     * @param file The path of the cut journal.
+     * @param bytes The complete journal.
+     * @param length The number of bytes the journal is cut to.
+     * @param expected The snapshot of the game the journal should restore.
+     * @return A description of the mismatch, or null if the recovered game matches.
+     * @throws IOException If the journal cannot be written.
+     */
+    private static String recover(Path file, byte[] bytes, long length, byte[] expected) throws IOException {
+        Files.write(file, bytes);
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+        return recover(file, expected);
+    }
+
+    /**
+     * Recovers the game from a journal and compares it with a snapshot.
+     *
+     * @param file The path of the journal.
+     * @param expected The snapshot of the game the journal should restore.
+     * @return A description of the mismatch, or null if the recovered game matches.
+     */
+    private static String recover(Path file, byte[] expected) {
+        SaveGame recovered;
+        try {
+            recovered = MoveJournal.recover(file);
+        } catch (IOException e) {
+            return "the journal cannot be recovered: " + e.getMessage();
+        }
+        if(recovered == null)
+            return "no game was recovered";
+        if(recovered.getGameId() != -1)
+            return "the game id differs";
+        byte[] state = GameSnapshot.encode(recovered.getLogic(), recovered.getCurrentPlayer(), recovered.getThrowsUsed());
+        return Arrays.equals(state, expected) ? null : "the recovered game differs";
+    }
+}
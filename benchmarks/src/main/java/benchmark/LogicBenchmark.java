@@ -0,0 +1,184 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dice.Dice;
+import dice.DiceState;
+import logic.Logic;
+import logic.Strategy;
+
+/**
+ * Measures the per-turn operations of {@link Logic}: scoring, throwing the dice, choosing
+ * a field and dice for the computer, and updating the automatic fields.
+ *
+ * Every benchmark starts from the same mid-game position: the first player has filled
+ * Twos, Fours, Three Of A Kind and Chance and holds 1 3 3 4 5 after the first throw.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogicBenchmark {
+    private Logic logic;
+    private Dice dice;
+    private int diceState;
+    private final int[] scores = new int[19];
+    private final int[] emptyFields = new int[18];
+    private int[][] finishedScores;
+
+    /**
+     * Default constructor for the LogicBenchmark class.
+     */
+    public LogicBenchmark() {}
+
+    /**
+     * Creates the game position and loads the strategy before measuring.
+     */
+    @Setup
+    public void setUp() {
+        Strategy.getInstance();
+        logic = new Logic(new String[]{"User", "Computer"}, Dice.seeded(1));
+        dice = new Dice(1, false, Dice.seeded(2));
+
+        int[] filledScores = new int[19];
+        filledScores[1] = 6;
+        filledScores[3] = 12;
+        filledScores[9] = 21;
+        filledScores[15] = 24;
+        for(int field : new int[]{1, 3, 9, 15})
+            logic.saveField(0, field, filledScores);
+
+        int[] values = {1, 3, 3, 4, 5};
+        diceState = DiceState.INITIAL;
+        for(int i = 0; i < values.length; i++)
+            diceState = DiceState.withValue(diceState, i, values[i]);
+        logic.setDiceState(diceState);
+        logic.calculateScore(0, scores);
+        logic.getEmptyFields(0, emptyFields);
+
+        // Every category filled and every automatic field empty.
+        finishedScores = new int[][] {
+            {3, 6, 9, 12, 15, 18, -1, -1, -1, 20, 0, 25, 30, 0, 0, 22, -1, -1},
+            {2, 8, 12, 16, 20, 24, -1, -1, -1, 25, 24, 25, 30, 40, 50, 27, -1, -1}
+        };
+    }
+
+    /**
+     * Scores the dice in every empty field, allocating the result.
+     *
+     * @return The calculated scores.
+     */
+    @Benchmark
+    public int[] calculateScore() {
+        return logic.calculateScore(0);
+    }
+
+    /**
+     * Scores the dice in every empty field into a reused array.
+     *
+     * @return The calculated scores.
+     */
+    @Benchmark
+    public int[] calculateScoreIntoBuffer() {
+        return logic.calculateScore(0, scores);
+    }
+
+    /**
+     * Throws the three unsaved dice one by one.
+     *
+     * @return The new dice state.
+     */
+    @Benchmark
+    public int throwDices() {
+        logic.setDiceState(DiceState.withSavedMask(diceState, 0b00110));
+        logic.setBulkThrows(false);
+        logic.throwDices();
+        return logic.getDiceState();
+    }
+
+    /**
+     * Throws the three unsaved dice from a single random value.
+     *
+     * @return The new dice state.
+     */
+    @Benchmark
+    public int throwDicesBulk() {
+        logic.setDiceState(DiceState.withSavedMask(diceState, 0b00110));
+        logic.setBulkThrows(true);
+        logic.throwDices();
+        return logic.getDiceState();
+    }
+
+    /**
+     * Throws a single die.
+     *
+     * @return The new value of the die.
+     */
+    @Benchmark
+    public int throwDice() {
+        dice.throwDice();
+        return dice.getValue();
+    }
+
+    /**
+     * Chooses the field the computer scores the dice in.
+     *
+     * @return The chosen field.
+     */
+    @Benchmark
+    public int getBestIndex() {
+        logic.setDiceState(diceState);
+        return logic.getBestIndex(emptyFields, scores);
+    }
+
+    /**
+     * Chooses the dice the computer saves before the second throw. The advice for the
+     * position is cached after the first call, so this measures the cached path.
+     *
+     * @return The dice to save.
+     */
+    @Benchmark
+    public int getBestSavedDices() {
+        logic.setDiceState(diceState);
+        return logic.getBestSavedDices(0, 2);
+    }
+
+    /**
+     * Restores finished score cards; the baseline of {@link #updateAutomaticValues(Blackhole)}.
+     *
+     * @param blackhole Consumes the restored scores.
+     */
+    @Benchmark
+    public void setScores(Blackhole blackhole) {
+        logic.setScores(finishedScores);
+        blackhole.consume(logic);
+    }
+
+    /**
+     * Restores finished score cards and fills in their totals and bonus. Subtract
+     * {@link #setScores(Blackhole)} for the cost of the update alone.
+     *
+     * @param blackhole Consumes the updated scores.
+     */
+    @Benchmark
+    public void updateAutomaticValues(Blackhole blackhole) {
+        logic.setScores(finishedScores);
+        logic.updateAutomaticValues(0);
+        logic.updateAutomaticValues(1);
+        blackhole.consume(logic);
+    }
+}
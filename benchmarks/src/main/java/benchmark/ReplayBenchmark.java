@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import logic.Logic;
+import simulation.GameRecorder;
+import simulation.GameReplay;
+
+/**
+ * Measures replaying a recorded game from its seed and turns, in full and by seeking to the
+ * middle of the game from the nearest checkpoint.
+ *
+ * The game is played once by computer players following the hold advisor and the optimal
+ * strategy, and recorded before measuring.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+    /**
+     * Number of players in the recorded game.
+     */
+    @Param({"2", "8"})
+    public int players;
+
+    private GameReplay replay;
+
+    /**
+     * Default constructor for the ReplayBenchmark class.
+     */
+    public ReplayBenchmark() {}
+
+    /**
+     * Plays and records the game.
+     */
+    @Setup
+    public void setUp() {
+        String[] names = new String[players];
+        for(int i = 0; i < players; i++)
+            names[i] = "Computer " + (i + 1);
+        GameRecorder recorder = new GameRecorder(names, 1, true);
+        Logic logic = recorder.getLogic();
+        while(!logic.isGameOver())
+            for(int player = 0; player < players; player++) {
+                if(logic.isPlayerDone(player))
+                    continue;
+                recorder.roll(player);
+                for(int rollsLeft = 2; rollsLeft > 0; rollsLeft--) {
+                    int savedDices = logic.getBestSavedDices(player, rollsLeft);
+                    if(savedDices == 0b11111)
+                        break;
+                    recorder.reroll(savedDices);
+                }
+                int[] scores = recorder.calculateScore();
+                recorder.score(scores[18] == 1 ? GameReplay.NO_FIELD : logic.getBestIndex(logic.getEmptyFields(player), scores));
+            }
+        replay = recorder.toReplay();
+    }
+
+    /**
+     * Replays the whole game.
+     *
+     * @return The finished game.
+     */
+    @Benchmark
+    public Logic replay() {
+        return replay.replay();
+    }
+
+    /**
+     * Restores the game in the middle of its turns.
+     *
+     * @return The game after half of its turns.
+     */
+    @Benchmark
+    public Logic seekMiddle() {
+        return replay.seek(replay.getNumberOfTurns() / 2);
+    }
+}
@@ -0,0 +1,224 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import logic.Logic;
+import saveGame.GameSnapshot;
+import saveGame.Leaderboard;
+import saveGame.SaveGame;
+
+/**
+ * Measures saving and loading games and querying the high score list, on files in
+ * temporary directories that are deleted after the run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveGameBenchmark {
+    /**
+     * Default constructor for the SaveGameBenchmark class.
+     */
+    public SaveGameBenchmark() {}
+
+    /**
+     * A half-played game and the file it is saved in.
+     */
+    @State(Scope.Thread)
+    public static class GameFile {
+        /**
+         * Number of players in the saved game.
+         */
+        @Param({"2", "8"})
+        public int players;
+
+        Path directory;
+        String filePath;
+        SaveGame saveGame;
+        byte[] snapshot;
+
+        /**
+         * Default constructor for the GameFile class.
+         */
+        public GameFile() {}
+
+        /**
+         * Creates the game and writes it once.
+         *
+         * @throws IOException If the directory cannot be created.
+         */
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("yahtzee-benchmark");
+            filePath = directory.resolve("game.sav").toString();
+
+            String[] names = new String[players];
+            for(int i = 0; i < players; i++)
+                names[i] = "Player " + (i + 1);
+            Logic logic = new Logic(names);
+            int[] scores = new int[19];
+            scores[0] = 3;
+            scores[4] = 15;
+            scores[12] = 30;
+            for(int i = 0; i < players; i++)
+                for(int field : new int[]{0, 4, 12})
+                    logic.saveField(i, field, scores);
+
+            saveGame = new SaveGame(logic);
+            saveGame.saveGame(filePath);
+            snapshot = GameSnapshot.encode(logic, 0, 0);
+        }
+
+        /**
+         * Deletes the temporary files.
+         *
+         * @throws IOException If a file cannot be deleted.
+         */
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(Path.of(filePath));
+            Files.deleteIfExists(Path.of(filePath + ".tmp"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * A high score list migrated from a text file with unsorted entries.
+     */
+    @State(Scope.Thread)
+    public static class HighScoreFile {
+        /**
+         * Number of entries in the high score file.
+         */
+        @Param({"100", "10000"})
+        public int entries;
+
+        Path directory;
+        Path filePath;
+        Leaderboard leaderboard;
+
+        /**
+         * Default constructor for the HighScoreFile class.
+         */
+        public HighScoreFile() {}
+
+        /**
+         * Writes the high score text file with random names and scores and migrates it.
+         *
+         * @throws IOException If the file cannot be written.
+         */
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("yahtzee-benchmark");
+            filePath = directory.resolve("scores.bin");
+
+            SplittableRandom random = new SplittableRandom(1);
+            List<String> lines = new ArrayList<>();
+            for(int i = 0; i < entries; i++) {
+                lines.add("player" + random.nextInt(1000));
+                lines.add(Integer.toString(random.nextInt(100, 376)));
+            }
+            Files.write(directory.resolve("scores.txt"), lines);
+            leaderboard = Leaderboard.getInstance(filePath);
+        }
+
+        /**
+         * Deletes the temporary files.
+         *
+         * @throws IOException If a file cannot be deleted.
+         */
+        @TearDown
+        public void tearDown() throws IOException {
+            for(String fileName : new String[]{"scores.txt", "scores.bin", "scores.names"})
+                Files.deleteIfExists(directory.resolve(fileName));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Writes the game to its file.
+     *
+     * @param game The game to save.
+     */
+    @Benchmark
+    public void saveGame(GameFile game) {
+        game.saveGame.saveGame(game.filePath);
+    }
+
+    /**
+     * Reads the game from its file.
+     *
+     * @param game The game to load.
+     * @return The names of the loaded players.
+     */
+    @Benchmark
+    public String[] loadGame(GameFile game) {
+        game.saveGame.loadGame(game.filePath);
+        return game.saveGame.getPlayerUsernames();
+    }
+
+    /**
+     * Encodes the game as a snapshot in memory.
+     *
+     * @param game The game to encode.
+     * @return The snapshot.
+     */
+    @Benchmark
+    public byte[] encodeSnapshot(GameFile game) {
+        return GameSnapshot.encode(game.saveGame.getLogic(), 0, 0);
+    }
+
+    /**
+     * Restores the game from a snapshot in memory.
+     *
+     * @param game The game to decode.
+     * @return The restored snapshot.
+     * @throws IOException If the snapshot is damaged.
+     */
+    @Benchmark
+    public GameSnapshot decodeSnapshot(GameFile game) throws IOException {
+        return GameSnapshot.decode(game.snapshot);
+    }
+
+    /**
+     * Selects the 20 best results of the high score list.
+     *
+     * @param highScores The high score file.
+     * @return The entry numbers of the best results.
+     */
+    @Benchmark
+    public int[] getTopHighScores(HighScoreFile highScores) {
+        return highScores.leaderboard.getTop(20);
+    }
+
+    /**
+     * Calculates the rank of a score in the high score list.
+     *
+     * @param highScores The high score file.
+     * @return The rank.
+     */
+    @Benchmark
+    public int getHighScoreRank(HighScoreFile highScores) {
+        return highScores.leaderboard.getRank(250);
+    }
+}
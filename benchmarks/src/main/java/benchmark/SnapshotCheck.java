@@ -0,0 +1,141 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import dice.Dice;
+import logic.Logic;
+import saveGame.GameSnapshot;
+
+/**
+ * Encodes games in the middle of a turn as snapshots, decodes them again and checks that the
+ * restored games match: the players, every score card, the dice, the way they are thrown and
+ * the turn in progress. Damaged and incomplete snapshots must be rejected.
+ */
+public class SnapshotCheck {
+    private static final int GAMES = 1000;
+    private static final int[] SCORING_FIELDS = { 0, 1, 2, 3, 4, 5, 9, 10, 11, 12, 13, 14, 15 };
+    private static final String[] NAMES = { "User", "Computer", "Zoë", "Amelia", "Ćiro", "Player 6" };
+
+    /**
+     * Default constructor for the SnapshotCheck class.
+     */
+    public SnapshotCheck() {}
+
+    /**
+     * Runs the check and exits with status 1 if a restored game does not match.
+     *
+     * @param args Command-line arguments, not used.
+     */
+    public static void main(String[] args) {
+        int failures = 0;
+        for(int seed = 0; seed < GAMES; seed++) {
+            String failure = check(seed);
+            if(failure != null) {
+                System.out.println("Game " + seed + ": " + failure);
+                failures++;
+            }
+        }
+        System.out.println("Checked " + GAMES + " snapshots, " + failures + " failed.");
+        if(failures > 0)
+            System.exit(1);
+    }
+
+    /**
+     * Plays a random part of a game, and encodes and decodes it.
+     *
+     * @param seed The seed of the game.
+     * @return A description of the mismatch, or null if the restored game matches.
+     */
+    private static String check(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] players = Arrays.copyOf(NAMES, 1 + random.nextInt(NAMES.length));
+        Logic logic = new Logic(players, Dice.seeded(seed));
+        logic.setBulkThrows(random.nextBoolean());
+
+        int turns = random.nextInt(13 * players.length);
+        for(int turn = 0; turn < turns; turn++)
+            playTurn(logic, turn % players.length, random);
+        int currentPlayer = turns % players.length;
+        int throwsUsed = random.nextInt(4);
+        logic.unsaveDices();
+        for(int i = 0; i < throwsUsed; i++) {
+            logic.throwDices();
+            logic.setSavedDices(random.nextInt(32));
+        }
+
+        byte[] bytes = GameSnapshot.encode(logic, currentPlayer, throwsUsed);
+        GameSnapshot snapshot;
+        try {
+            snapshot = GameSnapshot.decode(bytes);
+        } catch (IOException e) {
+            return "the snapshot cannot be decoded: " + e.getMessage();
+        }
+
+        Logic restored = snapshot.getLogic();
+        if(!Arrays.equals(restored.getPlayers(), players))
+            return "the players differ";
+        for(int i = 0; i < players.length; i++)
+            if(!Arrays.equals(restored.getPlayerScore(i), logic.getPlayerScore(i)))
+                return "the score card of player " + i + " differs";
+        if(restored.getDiceState() != logic.getDiceState())
+            return "the dice differ";
+        if(restored.isBulkThrows() != logic.isBulkThrows())
+            return "the way the dice are thrown differs";
+        if(snapshot.getCurrentPlayer() != currentPlayer || snapshot.getThrowsUsed() != throwsUsed)
+            return "the turn differs";
+        if(!Arrays.equals(GameSnapshot.encode(restored, currentPlayer, throwsUsed), bytes))
+            return "the restored game encodes differently";
+
+        byte[] damaged = bytes.clone();
+        damaged[random.nextInt(damaged.length)] ^= (byte) (1 + random.nextInt(255));
+        if(decodes(damaged))
+            return "a damaged snapshot was accepted";
+        if(decodes(Arrays.copyOf(bytes, random.nextInt(bytes.length))))
+            return "an incomplete snapshot was accepted";
+        return null;
+    }
+
+    /**
+     * Checks whether a snapshot is accepted.
+     *
+     * @param bytes The snapshot.
+     * @return True if the snapshot is decoded.
+     */
+    private static boolean decodes(byte[] bytes) {
+        try {
+            GameSnapshot.decode(bytes);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Plays a turn with random holds and a random empty field.
+     *
+     * @param logic The game.
+     * @param player The index of the player whose turn it is.
+     * @param random The source of the choices.
+     */
+    private static void playTurn(Logic logic, int player, SplittableRandom random) {
+        logic.unsaveDices();
+        logic.throwDices();
+        for(int rolls = random.nextInt(3); rolls > 0; rolls--) {
+            logic.setSavedDices(random.nextInt(32));
+            logic.throwDices();
+        }
+        int[] scores = logic.calculateScore(player, new int[19]);
+        // A rolled Yahtzee fills its field itself.
+        if(scores[18] == -1) {
+            int emptyFields = logic.getEmptyFieldsMask(player);
+            int field;
+            do {
+                field = SCORING_FIELDS[random.nextInt(SCORING_FIELDS.length)];
+            } while((emptyFields & 1 << field) == 0);
+            logic.saveField(player, field, scores);
+        }
+        logic.updateAutomaticValues(player);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import logic.Solver;
+import logic.Strategy;
+
+/**
+ * Measures how the time to solve the optimal strategy scales with the number of threads.
+ *
+ * The solver is run once with every thread count from 1 up to the number of available
+ * processors, or up to the count given as the first argument, and the speed-up over a
+ * single thread is printed for each.
+ */
+public class SolverBenchmark {
+    /**
+     * Default constructor for the SolverBenchmark class.
+     */
+    public SolverBenchmark() {}
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional maximum number of threads.
+     */
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        // Warm up the evaluator code before timing.
+        new Solver(maxThreads).solve();
+
+        System.out.printf("%-8s %10s %10s %14s%n", "Threads", "Seconds", "Speed-up", "Expected score");
+        double singleThreaded = 0;
+        for(int threads = 1; threads <= maxThreads; threads++) {
+            long start = System.nanoTime();
+            Strategy strategy = new Solver(threads).solve();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            if(threads == 1)
+                singleThreaded = seconds;
+            System.out.printf("%-8d %10.2f %10.2f %14.6f%n", threads, seconds, singleThreaded / seconds, strategy.getExpectedValue(0, 0));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package benchmark;
+
+import logic.Solver;
+import logic.Strategy;
+
+/**
+ * Solves the optimal strategy and checks its expected score against the published optimum.
+ *
+ * The scoring of this game has no Yahtzee bonus or joker rule, for which the optimal
+ * expected score of solitaire Yahtzee is 245.870775 (Verhoeff, Woodward).
+ */
+public class SolverCheck {
+    private static final double OPTIMAL_EXPECTED_SCORE = 245.870775;
+    private static final double TOLERANCE = 1e-3;
+
+    /**
+     * Default constructor for the SolverCheck class.
+     */
+    public SolverCheck() {}
+
+    /**
+     * Runs the check and exits with status 1 if the expected score does not match.
+     *
+     * @param args Command-line arguments, not used.
+     */
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        Strategy strategy = new Solver().solve();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        double expectedScore = strategy.getExpectedValue(0, 0);
+        System.out.printf("Expected score: %.6f (optimum %.6f), solved in %.1f s%n", expectedScore, OPTIMAL_EXPECTED_SCORE, seconds);
+        if(Math.abs(expectedScore - OPTIMAL_EXPECTED_SCORE) > TOLERANCE) {
+            System.out.println("The expected score does not match the optimum.");
+            System.exit(1);
+        }
+    }
+}
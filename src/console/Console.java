@@ -3,10 +3,18 @@ package console;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
+import logic.HoldAdvisor;
 import logic.Logic;
+import saveGame.CatalogEntry;
+import saveGame.Leaderboard;
+import saveGame.MoveJournal;
+import saveGame.PlayerStatistics;
 import saveGame.SaveGame;
+import saveGame.SaveGameCatalog;
 
 /**
  * Represents the Console class, which manages the console-based interface for the application.
@@ -14,15 +22,69 @@ import saveGame.SaveGame;
  * initializing and managing different screens or prompts within the console environment.
  */
 public class Console {
+    
     private Scanner scanner = new Scanner(System.in);
     private String[] playerUsernames;
     private Logic logic;
     private SaveGame saveGame;
+    private MoveJournal journal;
+    private CompletableFuture<HoldAdvisor> advisor;
 
     /**
-     * Constructor for the Console class. It initializes the Console object and displays the start screen.
+     * Constructor for the Console class. It initializes the Console object and displays the start screen,
+     * after offering to continue a game that was interrupted. The strategy the computer plays by and the
+     * hints are based on starts loading in the background, as computing it the first time takes several seconds.
      */
-    public Console() { startScreen(); }
+    public Console() { 
+        advisor = CompletableFuture.supplyAsync(HoldAdvisor::getInstance, runnable -> {
+            Thread thread = new Thread(runnable, "strategy");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        if(!resumeUnfinishedGame())
+            startScreen(); 
+    }
+
+    /**
+     * Offers to continue the game that was interrupted before it was over, recovered from its journal.
+     * A game that is not continued is discarded.
+     * 
+     * @return True if the game was continued.
+     */
+    private boolean resumeUnfinishedGame() {
+        SaveGame recovered;
+        try {
+            recovered = MoveJournal.recover(MoveJournal.DEFAULT_FILE);
+        } catch (IOException e) {
+            e.printStackTrace();
+            MoveJournal.discard(MoveJournal.DEFAULT_FILE);
+            return false;
+        }
+        if(recovered == null)
+            return false;
+
+        Logic recoveredLogic = recovered.getLogic();
+        System.out.println("==================================================================================================");
+        System.out.println("The game of " + String.join(", ", recoveredLogic.getPlayers()) + " (round " + recoveredLogic.getRound() 
+            + "/13) was not finished. Would you like to continue it?");
+        System.out.println("1. Yes");
+        System.out.println("2. No");
+        System.out.print("Your choice: ");
+        
+        while(true) {
+            String choice = scanner.nextLine().trim();
+            if(choice.equals("1")) {
+                saveGame = recovered;
+                logic = recoveredLogic;
+                playerUsernames = saveGame.getPlayerUsernames();
+                startGame(saveGame.getCurrentPlayer(), saveGame.getThrowsUsed());
+                return true;
+            } else if(choice.equals("2")) {
+                MoveJournal.discard(MoveJournal.DEFAULT_FILE);
+                return false;
+            } else System.out.println("Invalid choice. Please enter 1 or 2.");
+        }
+    }
 
     /**
      * Displays the start screen of the game with options to start the game, view about information, or exit.
@@ -73,21 +135,24 @@ public class Console {
      * Displays the high scores.
      */
     private void highScores() {
-    	if(logic == null) {
-    		logic = new Logic();
-    		saveGame = new SaveGame(logic);
-    	}
-    	String filePath = "highscores/scores.txt";
-        String[] playerNames = saveGame.getPlayerNames(filePath);
-        int[] playerScores = saveGame.getPlayerScores(filePath);
+    	Leaderboard leaderboard = Leaderboard.getInstance();
         
         System.out.println("==================================================================================================");
         System.out.println("                                       HIGH SCORES");
         System.out.println("==================================================================================================");
         System.out.printf("%-20s %s%n", "Username", "Score");
         System.out.println("--------------------------");
-        for (int i = 0; i < playerNames.length; i++) 
-            System.out.printf("%-20s %s%n", playerNames[i], playerScores[i]);
+        for (int entry : leaderboard.getTop(Leaderboard.HIGH_SCORES_SHOWN)) 
+            System.out.printf("%-20s %s%n", leaderboard.getPlayer(entry), leaderboard.getScore(entry));
+	    System.out.println();
+	    
+        System.out.printf("%-20s %5s %5s %7s %6s %7s%n", "Username", "Games", "Best", "Average", "Bonus", "Yahtzee");
+        System.out.println("--------------------------------------------------------");
+        for (String player : leaderboard.getBestPlayers(Leaderboard.HIGH_SCORES_SHOWN)) {
+            PlayerStatistics statistics = leaderboard.getStatistics(player);
+            System.out.printf("%-20s %5d %5d %7.1f %6s %7s%n", player, statistics.getGames(), statistics.getBestScore(),
+            		statistics.getAverageScore(), statistics.formatRate(statistics.getBonusRate()), statistics.formatRate(statistics.getYahtzeeRate()));
+        }
 	    System.out.println();
 	}
 
@@ -171,87 +236,42 @@ public class Console {
         System.out.println("                                        LOAD GAME");
         System.out.println("==================================================================================================");
         
-        // Basic setup of private variables; will be changed later
-        logic = new Logic();
-        saveGame = new SaveGame(logic);
-        long numberOfFiles = saveGame.getNumberOfFiles();
-
-        if(numberOfFiles == 0) {
+        List<CatalogEntry> entries = SaveGameCatalog.getInstance().getEntries();
+        if(entries.isEmpty()) {
             System.out.println("There are no saved games available.");
             waitForReturn();
             startScreen();
+            return;
         }
         
+        int numberOfGames = entries.size();
+        for(int i = 0; i < numberOfGames; i++)
+            System.out.println((i + 1) + ". " + entries.get(i).describe());
+        System.out.println((numberOfGames + 1) + ". Back");
+        System.out.println("==================================================================================================");
+        System.out.println("Please choose an option (1-" + (numberOfGames + 1) + "): ");
+        
         while(true) { 
-            if(numberOfFiles == 1) {
-                System.out.println("1. Game 1");
-                System.out.println("2. Back");
-                System.out.println("==================================================================================================");
-                System.out.println("Please choose an option (1-2): ");
-                System.out.print("Your choice: ");
-            } else if(numberOfFiles == 2) {
-                System.out.println("1. Game 1");
-                System.out.println("2. Game 2");
-                System.out.println("3. Back");
-                System.out.println("==================================================================================================");
-                System.out.println("Please choose an option (1-3): ");
-                System.out.print("Your choice: ");
-            } else if(numberOfFiles == 3) {
-                System.out.println("1. Game 1");
-                System.out.println("2. Game 2");
-                System.out.println("3. Game 3");
-                System.out.println("4. Back");
-                System.out.println("==================================================================================================");
-                System.out.println("Please choose an option (1-4): ");
-                System.out.print("Your choice: ");
-            }
-
+            System.out.print("Your choice: ");
             String choice = scanner.nextLine().trim();
-
-            if(numberOfFiles == 1) {
-                if(choice.equals("1")) {
-                    saveGame.loadGame("savedGames/game_1.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("2")) {
-                    chooseGame();
-                } else System.out.println("Invalid choice. Please enter 1 or 2.");
-            } else if (numberOfFiles == 2) {
-                if(choice.equals("1")) {
-                    saveGame.loadGame("savedGames/game_1.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("2")) {
-                    saveGame.loadGame("savedGames/game_2.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("3")) {
-                    chooseGame();
-                } else System.out.println("Invalid choice. Please enter 1, 2, or 3.");
-                
-            } else if (numberOfFiles == 3) {
-                if(choice.equals("1")) {
-                    saveGame.loadGame("savedGames/game_1.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("2")) {
-                    saveGame.loadGame("savedGames/game_2.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("3")) {
-                    saveGame.loadGame("savedGames/game_3.txt");
-                    playerUsernames = saveGame.getPlayerUsernames();
-                    startGame();
-                    break;
-                } else if(choice.equals("4")) {
-                    chooseGame();
-                } else System.out.println("Invalid choice. Please enter 1, 2, 3, or 4.");
+            int option;
+            try {
+                option = Integer.parseInt(choice);
+            } catch (NumberFormatException e) {
+                option = 0;
             }
+
+            if(option >= 1 && option <= numberOfGames) {
+                saveGame = new SaveGame(new Logic());
+                saveGame.loadGame(entries.get(option - 1).getId());
+                logic = saveGame.getLogic();
+                playerUsernames = saveGame.getPlayerUsernames();
+                startGame(saveGame.getCurrentPlayer(), saveGame.getThrowsUsed());
+                break;
+            } else if(option == numberOfGames + 1) {
+                chooseGame();
+                break;
+            } else System.out.println("Invalid choice. Please enter a number from 1 to " + (numberOfGames + 1) + ".");
         }
     }
    
@@ -261,7 +281,7 @@ public class Console {
     private void startClassicGame() {
         playerUsernames = new String[]{"User", "Computer"};
         logic = new Logic(playerUsernames);
-        startGame();    
+        startGame(0, 0);    
     }
     
     /**
@@ -270,7 +290,7 @@ public class Console {
     private void startMultiplayerGame() {
         chooseNumberOfPlayers();
         logic = new Logic(playerUsernames);
-        startGame();
+        startGame(0, 0);
     }
     
     /**
@@ -367,24 +387,16 @@ public class Console {
 	}
 
 	/**
-	 * Saves the current game state to a file.
-	 * Chooses the file path based on the number of existing saved game files.
+	 * Saves the current game state in the saved game catalog.
+	 * Saving the same game again replaces its earlier save.
+	 * Games are saved after all players have completed their turns, so the game continues with the first player.
 	 */
 	private void saveGame() {
-		saveGame = new SaveGame(logic);
-		long numberOfFiles = saveGame.getNumberOfFiles();
-		String filePath = "";
-		
-		if (numberOfFiles == 0)
-			filePath = "savedGames/game_1.txt";
-		else if (numberOfFiles == 1)
-			filePath = "savedGames/game_2.txt";
-		else if (numberOfFiles == 2)
-			filePath = "savedGames/game_3.txt";
-		else 
-			filePath = "savedGames/game_1.txt";
-
-		saveGame.saveGame(filePath);
+		if (saveGame == null || saveGame.getLogic() != logic)
+			saveGame = new SaveGame(logic);
+		saveGame.setTurn(0, 0);
+		saveGame.saveGame();
+		journal.checkpoint(saveGame);
 
 		System.out.print("Saving game.");
 		waiting();
@@ -392,14 +404,24 @@ public class Console {
 
 	/**
 	 * Starts the game loop where players take their turns, dice are thrown, and scores are calculated.
+	 * 
+	 * @param playerIndex The index of the player whose turn it is.
+	 * @param throwsUsed The number of throws the player has used; a turn with throws keeps its dice.
 	 */
-	private void startGame() {   
+	private void startGame(int playerIndex, int throwsUsed) {   
 		printUsers();
 		displayIntroduction();
 		
 		int numberOfPlayers = playerUsernames.length;
-		int playerIndex = 0;
-		int throwsOfDice = 1;
+		int throwsOfDice = Math.max(throwsUsed, 1);
+		boolean keepDices = throwsUsed > 0;
+		if (!keepDices)
+			logic.unsaveDices();
+		
+		if (saveGame == null || saveGame.getLogic() != logic)
+			saveGame = new SaveGame(logic);
+		saveGame.setTurn(playerIndex, throwsUsed);
+		journal = MoveJournal.start(MoveJournal.DEFAULT_FILE, saveGame);
 
 		while (!logic.isGameOver()) {
 			if (logic.isPlayerDone(playerIndex))
@@ -408,16 +430,24 @@ public class Console {
 			System.out.println();
 			System.out.println("Playing: " + playerUsernames[playerIndex]);
 			while (throwsOfDice < 4) {
-				logic.throwDices();
+				if (keepDices)
+					keepDices = false;
+				else {
+					logic.throwDices();
+					journal.recordRoll(playerIndex, throwsOfDice);
+				}
 				int[] dices = logic.getDices();
 				printDices(dices);
 				
 				if(!playerUsernames[playerIndex].equals("Computer")) {
-					if(throwsOfDice != 3)
+					if(throwsOfDice != 3) {
+						printHint(playerIndex, throwsOfDice);
 						processDices(throwsOfDice);
+						journal.recordHold(playerIndex, throwsOfDice);
+					}
 					throwsOfDice = playAgain(throwsOfDice);
 				} else 
-					throwsOfDice = 4;
+					throwsOfDice = saveComputerDices(playerIndex, throwsOfDice);
 			}   
 			
 			int[] score = logic.calculateScore(playerIndex);          
@@ -426,6 +456,7 @@ public class Console {
 			if(score[18] == -1)
 				promptUserForFieldChange(playerIndex, score);
 			logic.updateAutomaticValues(playerIndex); 
+			journal.recordTurnEnd(playerIndex, (playerIndex + 1) % numberOfPlayers);
 			
 			promptForExit();
 			if (playerIndex == numberOfPlayers - 1) {
@@ -438,7 +469,10 @@ public class Console {
 			throwsOfDice = 1;
 		}
 		
+		journal.finish();
 		printScores();
+		saveGame = new SaveGame(logic);
+		saveGame.saveFinalScores(Leaderboard.DEFAULT_FILE.toString());
 		String winner = logic.getWinner();
 		System.out.println();
 		System.out.println("CONGRATULATIONS! The winner of the game is: " + winner + ".");
@@ -447,6 +481,69 @@ public class Console {
 		startScreen();
 	}
 
+	/**
+	 * Saves the dice advised for the computer player and decides whether it throws again.
+	 * 
+	 * @param playerIndex The index of the computer player.
+	 * @param throwsOfDice The current number of throws.
+	 * @return The updated number of throws; 4 if the computer scores the current dice.
+	 */
+	private int saveComputerDices(int playerIndex, int throwsOfDice) {
+		if(throwsOfDice >= 3)
+			return 4;
+		
+		int savedDices = logic.getBestSavedDices(playerIndex, 3 - throwsOfDice, getAdvisor());
+		if(savedDices == 0b11111)
+			return 4;
+		
+		logic.setSavedDices(savedDices);
+		journal.recordHold(playerIndex, throwsOfDice);
+		System.out.println(playerUsernames[playerIndex] + " saves " + describeDices(savedDices) + " and throws again.");
+		return throwsOfDice + 1;
+	}
+
+	/**
+	 * Waits for the strategy to be loaded, telling the players if it is still being computed.
+	 * 
+	 * @return The advisor the computer plays by and the hints are based on.
+	 */
+	private HoldAdvisor getAdvisor() {
+		if(!advisor.isDone())
+			System.out.println("Computing the strategy...");
+		return advisor.join();
+	}
+
+	/**
+	 * Prints which dice the hold advisor recommends saving before the next throw.
+	 * 
+	 * @param playerIndex The index of the current player.
+	 * @param throwsOfDice The current number of throws.
+	 */
+	private void printHint(int playerIndex, int throwsOfDice) {
+		int savedDices = logic.getBestSavedDices(playerIndex, 3 - throwsOfDice, getAdvisor());
+		if(savedDices == 0b11111)
+			System.out.println("Hint: keep all dice and choose a field.");
+		else
+			System.out.println("Hint: save " + describeDices(savedDices) + " and throw again.");
+	}
+
+	/**
+	 * Describes a set of dice by their numbers.
+	 * 
+	 * @param savedDices The dice, bit i standing for die i + 1.
+	 * @return A description such as "dice 1 3 5", or "no dice".
+	 */
+	private String describeDices(int savedDices) {
+		if(savedDices == 0)
+			return "no dice";
+		
+		StringBuilder description = new StringBuilder("dice");
+		for(int i = 0; i < 5; i++)
+			if((savedDices & (1 << i)) != 0)
+				description.append(" ").append(i + 1);
+		return description.toString();
+	}
+
 	/**
 	 * Prints the faces of the dice based on their current values.
 	 */
@@ -735,14 +832,13 @@ public class Console {
 		System.out.println();
 		System.out.println("==================================================================================================");
 		System.out.println("SCORES:");
-		System.out.printf("%-20s %s%n", "Player", "Final Total");
-		System.out.println("--------------------------------");
-
-		for(int i = 0; i < playerUsernames.length; i++) {
-			String playerName = playerUsernames[i];
-			int[] finalScore = logic.getPlayerScore(i);
-			int finalTotal = finalScore[17];
-			System.out.printf("%-20s %d%n", playerName, finalTotal);
-		}
+		System.out.printf("%-6s %-20s %s%n", "Rank", "Player", "Final Total");
+		System.out.println("---------------------------------------");
+
+		int[] standings = logic.getTopPlayers(playerUsernames.length);
+		int[] ranks = logic.getRanks();
+		int[] finalTotals = logic.getFinalTotals(new int[playerUsernames.length]);
+		for(int playerIndex : standings)
+			System.out.printf("%-6d %-20s %d%n", ranks[playerIndex], playerUsernames[playerIndex], finalTotals[playerIndex]);
 	}    
 }
\ No newline at end of file
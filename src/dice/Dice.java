@@ -1,14 +1,20 @@
 package dice;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a dice in the game. The Dice class manages the value of the dice and its saved state.
+ * The random values come from a {@link RandomGenerator} that can be supplied, so games can be
+ * replayed from a seed and every thread can use its own generator.
  */
 public class Dice {
     private enum Value { ONE, TWO, THREE, FOUR, FIVE, SIX; }
+    // values() returns a new array on every call, so the values are looked up in a shared copy.
+    private static final Value[] VALUES = Value.values();
     private Value v;
     private boolean isSaved;
+    private RandomGenerator random;
 
     // Private constructor to prevent direct instantiation without parameters.
     private Dice() {}
@@ -19,8 +25,28 @@ public class Dice {
      * @param isSaved1 The initial saved state of the dice.
      */
     public Dice(int value, boolean isSaved1) {
+        this(value, isSaved1, new SplittableRandom());
+    }
+
+    /**
+     * Constructor to initialize a dice with a specific value, saved state and source of random values.
+     * @param value The initial value of the dice (1 through 6).
+     * @param isSaved1 The initial saved state of the dice.
+     * @param random1 The generator the dice is thrown with; it must not be shared between threads.
+     */
+    public Dice(int value, boolean isSaved1, RandomGenerator random1) {
         setValue(value); 
         isSaved = isSaved1;
+        setRandom(random1);
+    }
+
+    /**
+     * Creates a generator whose values only depend on a seed, for reproducible games.
+     * @param seed The seed.
+     * @return A new seeded generator.
+     */
+    public static RandomGenerator seeded(long seed) {
+        return new SplittableRandom(seed);
     }
 
     /**
@@ -39,7 +65,7 @@ public class Dice {
     public void setValue(int value) { 
         if(value < 1 || value > 6)
             throw new IllegalArgumentException("Invalid value: must be between 1 and 6."); 
-        v = Value.values()[value - 1]; 
+        v = VALUES[value - 1]; 
     }
 
     /**
@@ -58,12 +84,53 @@ public class Dice {
         isSaved = isSaved1; 
     }
 
+    /**
+     * Gets the generator the dice is thrown with.
+     * @return The source of random values.
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the generator the dice is thrown with.
+     * @param random1 The new source of random values.
+     * @throws IllegalArgumentException If the generator is null.
+     */
+    public void setRandom(RandomGenerator random1) {
+        if(random1 == null)
+            throw new IllegalArgumentException("Invalid input: The random generator cannot be null.");
+        random = random1;
+    }
+
     /**
      * Rolls the dice by generating a random value between 1 and 6.
      */
     public void throwDice() {
-        Random random = new Random();
         int randomNumber = random.nextInt(6) + 1; 
         setValue(randomNumber); 
     }
+
+    /**
+     * Rolls five dice at once from a single 64-bit random value in almost every case.
+     * The value is split into four 13-bit numbers; the first one below 6^5 = 7776 is used
+     * and read in base six, one digit per die. Numbers of 7776 and above are rejected
+     * rather than reduced, so every roll is exactly equally likely. A new value is only
+     * drawn if all four numbers are rejected, which happens about once in 150000 throws.
+     * @return The values of the five dice, packed like the values of a {@link DiceState}.
+     */
+    public int throwDices() {
+        while(true) {
+            long bits = random.nextLong();
+            for(int i = 0; i < 4; i++, bits >>>= 13) {
+                int roll = (int) (bits & 0x1FFF);
+                if(roll < 7776) {
+                    int values = 0;
+                    for(int index = 0; index < DiceState.NUMBER_OF_DICES; index++, roll /= 6)
+                        values |= (roll % 6 + 1) << (index * 3);
+                    return values;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package dice;
+
+/**
+ * Packs the state of all five dice of a turn into a single int.
+ *
+ * Bits 0-14 hold the face values, three bits per die starting with the first die,
+ * and bits 15-19 hold the saved flags of the dice in the same order. Since a state is
+ * a plain int, copying, hashing and comparing states costs nothing. All methods are
+ * static and return a new state instead of modifying one.
+ */
+public final class DiceState {
+    /**
+     * Number of dice in a state.
+     */
+    public static final int NUMBER_OF_DICES = 5;
+
+    /**
+     * State with every die showing one and no die saved.
+     */
+    public static final int INITIAL = 0b001_001_001_001_001;
+
+    private static final int VALUE_BITS = 3;
+    private static final int VALUE_MASK = 0b111;
+    private static final int SAVED_SHIFT = NUMBER_OF_DICES * VALUE_BITS;
+    private static final int SAVED_MASK = 0b11111;
+    private static final int VALUES_MASK = (1 << SAVED_SHIFT) - 1;
+    private static final int[] SAVED_VALUE_MASKS = new int[SAVED_MASK + 1];
+
+    static {
+        for(int savedMask = 0; savedMask <= SAVED_MASK; savedMask++)
+            for(int index = 0; index < NUMBER_OF_DICES; index++)
+                if((savedMask & (1 << index)) != 0)
+                    SAVED_VALUE_MASKS[savedMask] |= VALUE_MASK << (index * VALUE_BITS);
+    }
+
+    // Private constructor to prevent instantiation.
+    private DiceState() {}
+
+    /**
+     * Gets the value of a die.
+     *
+     * @param state The dice state.
+     * @param index Index of the die (0-4).
+     * @return The value of the die (1 through 6).
+     * @throws IllegalArgumentException If the index is out of range.
+     */
+    public static int getValue(int state, int index) {
+        checkIndex(index);
+        return (state >>> (index * VALUE_BITS)) & VALUE_MASK;
+    }
+
+    /**
+     * Returns the state with the value of one die replaced.
+     *
+     * @param state The dice state.
+     * @param index Index of the die (0-4).
+     * @param value The new value of the die (1 through 6).
+     * @return The updated dice state.
+     * @throws IllegalArgumentException If the index or the value is out of range.
+     */
+    public static int withValue(int state, int index, int value) {
+        checkIndex(index);
+        if(value < 1 || value > 6)
+            throw new IllegalArgumentException("Invalid value: must be between 1 and 6.");
+        int shift = index * VALUE_BITS;
+        return (state & ~(VALUE_MASK << shift)) | (value << shift);
+    }
+
+    /**
+     * Returns the state with the values of all unsaved dice replaced, keeping the saved dice.
+     *
+     * @param state The dice state.
+     * @param values The new values of all dice, packed like bits 0-14 of a state.
+     * @return The updated dice state.
+     */
+    public static int withUnsavedValues(int state, int values) {
+        int keep = SAVED_VALUE_MASKS[getSavedMask(state)] | ~VALUES_MASK;
+        return (state & keep) | (values & ~keep);
+    }
+
+    /**
+     * Gets the saved state of a die.
+     *
+     * @param state The dice state.
+     * @param index Index of the die (0-4).
+     * @return True if the die is saved; otherwise, false.
+     * @throws IllegalArgumentException If the index is out of range.
+     */
+    public static boolean isSaved(int state, int index) {
+        checkIndex(index);
+        return (state & (1 << (SAVED_SHIFT + index))) != 0;
+    }
+
+    /**
+     * Returns the state with the saved flag of one die replaced.
+     *
+     * @param state The dice state.
+     * @param index Index of the die (0-4).
+     * @param isSaved The new saved state of the die.
+     * @return The updated dice state.
+     * @throws IllegalArgumentException If the index is out of range.
+     */
+    public static int withSaved(int state, int index, boolean isSaved) {
+        checkIndex(index);
+        int bit = 1 << (SAVED_SHIFT + index);
+        return isSaved ? state | bit : state & ~bit;
+    }
+
+    /**
+     * Gets the saved flags of all dice as a bitmask, bit i standing for die i.
+     *
+     * @param state The dice state.
+     * @return The saved flags (0-31).
+     */
+    public static int getSavedMask(int state) {
+        return (state >>> SAVED_SHIFT) & SAVED_MASK;
+    }
+
+    /**
+     * Returns the state with the saved flags of all dice replaced.
+     *
+     * @param state The dice state.
+     * @param savedMask The new saved flags, bit i standing for die i.
+     * @return The updated dice state.
+     */
+    public static int withSavedMask(int state, int savedMask) {
+        return (state & ~(SAVED_MASK << SAVED_SHIFT)) | ((savedMask & SAVED_MASK) << SAVED_SHIFT);
+    }
+
+    /**
+     * Returns the state with every die marked as unsaved.
+     *
+     * @param state The dice state.
+     * @return The updated dice state.
+     */
+    public static int withoutSaved(int state) {
+        return state & ~(SAVED_MASK << SAVED_SHIFT);
+    }
+
+    /**
+     * Checks that a die index is in range.
+     *
+     * @param index Index of the die.
+     * @throws IllegalArgumentException If the index is out of range.
+     */
+    private static void checkIndex(int index) {
+        if(index < 0 || index >= NUMBER_OF_DICES)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+    }
+}
@@ -0,0 +1,77 @@
+package gui;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.swing.SwingUtilities;
+
+import logic.HoldAdvisor;
+
+/**
+ * Loads the strategy that the computer plays by and the hints are based on, and asks it for
+ * advice, on a background thread of its own.
+ *
+ * The first time the game runs, the strategy is computed, which takes several seconds, so it
+ * is neither done on the event dispatch thread nor on the thread of the {@link PersistenceExecutor},
+ * where it would hold up saving games. The strategy is loaded once and shared by all games.
+ */
+final class AdvisorExecutor {
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "strategy");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static CompletableFuture<HoldAdvisor> advisor;
+
+    /**
+     * Default constructor for the AdvisorExecutor class; the class only has static methods.
+     */
+    private AdvisorExecutor() {}
+
+    /**
+     * Starts loading the strategy, unless it is loaded or being loaded already.
+     */
+    static void preload() {
+        getAdvisor();
+    }
+
+    /**
+     * Hands the advisor to a callback on the event dispatch thread once the strategy is loaded.
+     *
+     * @param onReady Receives the advisor; it is not called if the strategy cannot be loaded.
+     */
+    static void whenReady(Consumer<HoldAdvisor> onReady) {
+        submit(loadedAdvisor -> loadedAdvisor, onReady);
+    }
+
+    /**
+     * Asks the advisor for advice on the background thread, once the strategy is loaded.
+     * The task must only use data captured when it was submitted, not the game itself.
+     *
+     * @param <T> The type of the advice.
+     * @param task Computes the advice from the advisor.
+     * @param onDone Receives the advice on the event dispatch thread; it is not called if the task fails.
+     */
+    static <T> void submit(Function<HoldAdvisor, T> task, Consumer<T> onDone) {
+        getAdvisor().thenApplyAsync(task, executor).whenComplete((result, exception) -> {
+            if(exception != null)
+                exception.printStackTrace();
+            else SwingUtilities.invokeLater(() -> onDone.accept(result));
+        });
+    }
+
+    /**
+     * Returns the advisor that is loaded or being loaded, and starts loading it the first time.
+     *
+     * @return The advisor once it is loaded.
+     */
+    private static synchronized CompletableFuture<HoldAdvisor> getAdvisor() {
+        if(advisor == null)
+            advisor = CompletableFuture.supplyAsync(HoldAdvisor::getInstance, executor);
+        return advisor;
+    }
+}
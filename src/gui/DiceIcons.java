@@ -0,0 +1,141 @@
+package gui;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Cache of the icons of the dice faces, the six normal faces and the six faces of saved dice.
+ *
+ * The images are decoded once and scaled once to {@value #SIZE} pixels and to the pixel size of
+ * the screen the dice are shown on, so rolling the dice only looks icons up. The icons are
+ * scaled again only when the dice are shown on a screen with a different scale, such as after
+ * the window was moved to another monitor. The icons are shared and must not be changed.
+ */
+final class DiceIcons {
+    /**
+     * Size of the icons, in user space pixels.
+     */
+    static final int SIZE = 80;
+
+    private static final int FACES = 6;
+
+    private static BufferedImage[] images;
+    private static double iconScale;
+    private static ImageIcon[] icons;
+
+    /**
+     * Default constructor for the DiceIcons class; the class only has static methods.
+     */
+    private DiceIcons() {}
+
+    /**
+     * Decodes and scales the icons for the default screen, so that the first roll does not wait for them.
+     */
+    static void preload() {
+        getIcon(1, false, null);
+    }
+
+    /**
+     * Gets the icon of a dice face.
+     *
+     * @param diceValue The value of the dice (1-6).
+     * @param saved True for the face of a saved dice.
+     * @param configuration The configuration of the screen the icon is shown on, or null for the default screen.
+     * @return The icon, or null if its image could not be read.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    static synchronized ImageIcon getIcon(int diceValue, boolean saved, GraphicsConfiguration configuration) {
+        if(diceValue < 1 || diceValue > FACES)
+            throw new IllegalArgumentException("Invalid input: Dice value out of range.");
+        double scale = getScale(configuration);
+        if(icons == null || scale != iconScale) {
+            if(images == null)
+                images = readImages();
+            icons = scaleImages(images, scale);
+            iconScale = scale;
+        }
+        return icons[(saved ? FACES : 0) + diceValue - 1];
+    }
+
+    /**
+     * Gets the scale of a screen.
+     *
+     * @param configuration The configuration of the screen, or null for the default screen.
+     * @return The number of pixels per user space pixel.
+     */
+    private static double getScale(GraphicsConfiguration configuration) {
+        if(configuration == null) {
+            if(GraphicsEnvironment.isHeadless())
+                return 1;
+            configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        return configuration.getDefaultTransform().getScaleX();
+    }
+
+    /**
+     * Reads the images of the dice faces, images/dice_1.png to images/dice_6.png followed by
+     * images/saved_dice_1.png to images/saved_dice_6.png.
+     *
+     * @return The images; the image of a face that could not be read is null.
+     */
+    private static BufferedImage[] readImages() {
+        BufferedImage[] faces = new BufferedImage[2 * FACES];
+        for(int i = 0; i < faces.length; i++) {
+            String imagePath = "images/" + (i < FACES ? "dice_" : "saved_dice_") + (i % FACES + 1) + ".png";
+            try {
+                faces[i] = ImageIO.read(new File(imagePath));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return faces;
+    }
+
+    /**
+     * Scales the images of the dice faces to icons of {@value #SIZE} pixels that also hold the
+     * image for the pixel size of the screen.
+     *
+     * @param faces The images.
+     * @param scale The number of pixels per user space pixel.
+     * @return The icons.
+     */
+    private static ImageIcon[] scaleImages(BufferedImage[] faces, double scale) {
+        ImageIcon[] scaledIcons = new ImageIcon[faces.length];
+        int pixels = (int) Math.round(SIZE * scale);
+        for(int i = 0; i < faces.length; i++) {
+            if(faces[i] == null)
+                continue;
+            Image image = scale(faces[i], SIZE);
+            if(pixels != SIZE)
+                image = new BaseMultiResolutionImage(image, scale(faces[i], pixels));
+            scaledIcons[i] = new ImageIcon(image);
+        }
+        return scaledIcons;
+    }
+
+    /**
+     * Scales an image smoothly into a new image.
+     *
+     * @param image The image.
+     * @param size The width and height of the new image.
+     * @return The new image.
+     */
+    private static BufferedImage scale(BufferedImage image, int size) {
+        // The ImageIcon waits until the smooth scaling is done.
+        Image smooth = new ImageIcon(image.getScaledInstance(size, size, Image.SCALE_SMOOTH)).getImage();
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.drawImage(smooth, 0, 0, null);
+        g.dispose();
+        return scaled;
+    }
+}
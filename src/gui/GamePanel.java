@@ -6,23 +6,24 @@ import java.awt.Font;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.GridLayout;
-import java.awt.Image;
 import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
+import java.util.Arrays;
 
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
+import logic.HoldAdvisor;
 import logic.Logic;
+import saveGame.GameSnapshot;
+import saveGame.Leaderboard;
+import saveGame.MoveJournal;
 import saveGame.SaveGame;
 
 /**
@@ -35,9 +36,9 @@ import saveGame.SaveGame;
  */
 public class GamePanel extends JPanel {
 	/**
-	 * An array of field indices that are considered unchangeable.
+	 * Mask of the fields that are considered unchangeable, bit i standing for field i.
 	 */
-	private int[] unchangeableFields = new int[]{6, 7, 8, 16, 17};
+	private static final int UNCHANGEABLE_FIELDS = 1 << 6 | 1 << 7 | 1 << 8 | 1 << 16 | 1 << 17;
 
 	/**
 	 * Label displaying the current player's name.
@@ -52,7 +53,7 @@ public class GamePanel extends JPanel {
 	/**
 	 * Array holding the current values of the dice.
 	 */
-	private int[] dices;
+	private int[] dices = new int[5];
 
 	/**
 	 * Label showing the number of throws left for the current turn.
@@ -64,6 +65,11 @@ public class GamePanel extends JPanel {
 	 */
 	private JButton rollButton;
 
+	/**
+	 * Button that shows which dice the hold advisor recommends saving.
+	 */
+	private JButton hintButton;
+
 	/**
 	 * Panel containing score-related information and components.
 	 */
@@ -84,6 +90,16 @@ public class GamePanel extends JPanel {
 	 */
 	private JButton[] scoreButtons;
 
+	/**
+	 * Values last shown by the score buttons.
+	 */
+	private int[] renderedScores;
+
+	/**
+	 * Mask of the score buttons last enabled, bit i standing for button i.
+	 */
+	private int renderedEnabledFields;
+
 	/**
 	 * Array of usernames for the players participating in the game.
 	 */
@@ -107,7 +123,7 @@ public class GamePanel extends JPanel {
 	/**
 	 * Array to hold scores for different categories or rounds.
 	 */
-	private int[] score;
+	private int[] score = new int[19];
 
 	/**
 	 * Instance of the Gui class that manages the graphical user interface.
@@ -119,6 +135,31 @@ public class GamePanel extends JPanel {
 	 */
 	private SaveGame saveGame;
 
+	/**
+	 * Journal recording the moves of the game, so that an interrupted game can be continued.
+	 */
+	private MoveJournal journal;
+
+	/**
+	 * Delay before each move of a computer player, in milliseconds.
+	 */
+	private static int computerMoveDelay = 1000;
+
+	/**
+	 * Timer playing the moves of a computer player, see {@link #scheduleComputerMove()}.
+	 */
+	private Timer computerTimer;
+
+	/**
+	 * Advisor the computer plays by; null until the strategy has been loaded.
+	 */
+	private HoldAdvisor advisor;
+
+	/**
+	 * True once the panel is no longer shown; the computer then makes no more moves.
+	 */
+	private boolean disposed;
+
 
     /**
      * Gets the current player label text.
@@ -136,49 +177,11 @@ public class GamePanel extends JPanel {
      * Sets the image for the dice face at the specified index.
      * 
      * @param diceIndex the index of the dice.
-     * @param imagePath the path to the image.
-     */
-    private void setDiceFaceImage(int diceIndex, String imagePath) {
-        try {
-            BufferedImage img = ImageIO.read(new File(imagePath));
-            Image scaledImg = img.getScaledInstance(80, 80, Image.SCALE_SMOOTH);
-            ImageIcon icon = new ImageIcon(scaledImg);
-            diceButtons[diceIndex].setIcon(icon);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Gets the file path for the dice image based on the dice value.
-     * 
-     * @param diceValue the value of the dice.
-     * @return the file path of the dice image.
-     */
-    private String getDiceImage(int diceValue) {
-        if(diceValue == 1) return "images/dice_1.png";
-        else if(diceValue == 2) return "images/dice_2.png";
-        else if(diceValue == 3) return "images/dice_3.png";
-        else if(diceValue == 4) return "images/dice_4.png";
-        else if(diceValue == 5) return "images/dice_5.png";
-        else if(diceValue == 6) return "images/dice_6.png";
-        return "";
-    }
-
-    /**
-     * Gets the file path for the saved dice image based on the dice value.
-     * 
      * @param diceValue the value of the dice.
-     * @return the file path of the saved dice image.
+     * @param saved true if the dice is saved.
      */
-    private String getSavedDiceImage(int diceValue) {
-        if(diceValue == 1) return "images/saved_dice_1.png";
-        else if(diceValue == 2) return "images/saved_dice_2.png";
-        else if(diceValue == 3) return "images/saved_dice_3.png";
-        else if(diceValue == 4) return "images/saved_dice_4.png";
-        else if(diceValue == 5) return "images/saved_dice_5.png";
-        else if(diceValue == 6) return "images/saved_dice_6.png";
-        return "";
+    private void setDiceFaceImage(int diceIndex, int diceValue, boolean saved) {
+        diceButtons[diceIndex].setIcon(DiceIcons.getIcon(diceValue, saved, getGraphicsConfiguration()));
     }
 
     /**
@@ -186,12 +189,7 @@ public class GamePanel extends JPanel {
      */
     private void setDices() {
         for(int i = 0; i < diceButtons.length; i++) {
-            int number = dices[i];
-            String imagePath = "";
-            if(logic.isDiceSaved(i))
-                imagePath = getSavedDiceImage(number);
-            else imagePath = getDiceImage(number);
-            setDiceFaceImage(i, imagePath);
+            setDiceFaceImage(i, dices[i], logic.isDiceSaved(i));
         }
     }
 
@@ -204,12 +202,26 @@ public class GamePanel extends JPanel {
      * @param playerUsernames1 the array of player usernames.
      */
     public GamePanel(Gui gui1, Logic logic1, SaveGame saveGame1, String[] playerUsernames1) {
+        this(gui1, logic1, saveGame1, playerUsernames1, 0, 0);
+    }
+
+    /**
+     * Constructs the GamePanel for a game that continues a turn in progress, such as a loaded game.
+     * 
+     * @param gui1 the GUI object.
+     * @param logic1 the logic object.
+     * @param saveGame1 the save game object.
+     * @param playerUsernames1 the array of player usernames.
+     * @param playerIndex1 the index of the player whose turn it is.
+     * @param numberOfThrows1 the number of throws the player has used; 0 if the turn has not started.
+     */
+    public GamePanel(Gui gui1, Logic logic1, SaveGame saveGame1, String[] playerUsernames1, int playerIndex1, int numberOfThrows1) {
         gui = gui1;
         logic = logic1;
         saveGame = saveGame1;
         playerUsernames = playerUsernames1;
-        playerIndex = 0;
-        numberOfThrows = 1;
+        playerIndex = playerIndex1;
+        numberOfThrows = numberOfThrows1;
         init();
     }
 
@@ -232,8 +244,16 @@ public class GamePanel extends JPanel {
         currentPlayerLabel.setForeground(Color.WHITE);
         add(currentPlayerLabel, c);
          
-        logic.throwDices();
-        dices = logic.getDices();
+        saveGame.setTurn(playerIndex, numberOfThrows);
+        journal = MoveJournal.start(MoveJournal.DEFAULT_FILE, saveGame);
+        // A turn that was saved after throwing keeps its dice.
+        if(numberOfThrows == 0) {
+            logic.unsaveDices();
+            logic.throwDices();
+            numberOfThrows = 1;
+            journal.recordRoll(playerIndex, numberOfThrows);
+        }
+        logic.getDices(dices);
         JPanel dicePanel = new JPanel();
         dicePanel.setBackground(new Color(21, 88, 67)); 
         dicePanel.setLayout(new GridLayout(1, 5, 10, 10));
@@ -245,41 +265,63 @@ public class GamePanel extends JPanel {
             dicePanel.add(diceButtons[i]);
         }
         setDices();
+        // The icons are looked up again for the scale of the screen the panel is moved to.
+        addPropertyChangeListener("graphicsConfiguration", e -> setDices());
         c.gridy++;
         add(dicePanel, c);
 
         c.gridy++;
-        xThrowsLeft = new JLabel(3-numberOfThrows + " throws left.");
+        xThrowsLeft = new JLabel();
         xThrowsLeft.setForeground(Color.WHITE);
+        updateXThrowsLeft();
         add(xThrowsLeft, c);
 
         c.gridy++;
         rollButton = new JButton("Roll");
         rollButton.addActionListener(new RollButtonListener());
+        rollButton.setEnabled(numberOfThrows < 3);
         add(rollButton, c);
+
+        c.gridy++;
+        hintButton = new JButton("Hint");
+        hintButton.addActionListener(new HintButtonListener());
+        // Hints are available once the strategy has been loaded.
+        hintButton.setEnabled(false);
+        add(hintButton, c);
              
-        score = logic.calculateScore(playerIndex);
-        logic.calculateScore(playerIndex);
+        logic.calculateScore(playerIndex, score);
         c.gridx = 1;
         c.gridy = 0;
         c.gridheight = 5; 
         scoreArea = initScorePanel(); 
         add(scoreArea, c);
         c.gridheight = 1; 
+        // A Yahtzee thrown by the first throw of the turn is confirmed like one thrown with the Roll button.
+        if (score[18] == 1)
+            SwingUtilities.invokeLater(this::updateScoreButtons);
 
         c.gridx = 1;
         c.gridy = 5;
         saveGameButton = new JButton("Save Game");
         saveGameButton.addActionListener(new SaveGameButtonListener());
-        saveGameButton.setEnabled(false);
+        saveGameButton.setEnabled(playerIndex == playerUsernames.length - 1 || logic.getRound() > 0);
         add(saveGameButton, c);
         
         c.gridx = 2; 
         c.gridy = 5; 
         nextButton = new JButton("Next");
         nextButton.addActionListener(new NextButtonListener());
-        nextButton.setEnabled(false);
+        nextButton.setEnabled(logic.isPlayerDone(playerIndex));
         add(nextButton, c);
+
+        // The strategy is loaded, or computed the first time, in the background.
+        AdvisorExecutor.whenReady(loadedAdvisor -> {
+            if (disposed)
+                return;
+            advisor = loadedAdvisor;
+            hintButton.setEnabled(true);
+            scheduleComputerMove();
+        });
     }
 
     /**
@@ -288,7 +330,11 @@ public class GamePanel extends JPanel {
      * @return the initialized score panel.
      */
     private JPanel initScorePanel() {    	
-        JPanel panel = new JPanel(new GridBagLayout());
+        // The grid has a fixed size, so a change of a score is laid out within the grid.
+        JPanel panel = new JPanel(new GridBagLayout()) {
+            @Override
+            public boolean isValidateRoot() { return true; }
+        };
         panel.setBackground(new Color(21, 88, 67)); 
 
         GridBagConstraints c = new GridBagConstraints();
@@ -300,6 +346,10 @@ public class GamePanel extends JPanel {
 
         String[] fieldNames = logic.getFieldNames(); 
         scoreButtons = new JButton[fieldNames.length];
+        renderedScores = new int[fieldNames.length];
+        // Nothing is shown yet, so every button is filled in by renderScoreButtons.
+        Arrays.fill(renderedScores, Integer.MIN_VALUE);
+        renderedEnabledFields = (1 << fieldNames.length) - 1;
 
         for(int i = 0; i < fieldNames.length; i++) {               
             c.gridy = i;
@@ -309,18 +359,15 @@ public class GamePanel extends JPanel {
             panel.add(fieldNameLabel, c);
 
             c.gridx = 1;
-            scoreButtons[i] = new JButton(String.valueOf(score[i]));
+            scoreButtons[i] = new JButton();
             scoreButtons[i].setPreferredSize(new Dimension(80, 20)); 
             scoreButtons[i].addActionListener(new ScoreButtonListener(i));
-            for(int unchangeableField: unchangeableFields) 
-                if(i == unchangeableField) {
-                    scoreButtons[i].setEnabled(false);
-                    break;
-                }
             panel.add(scoreButtons[i], c);
 
             c.gridx = 0; 
         }
+        // A game continued from a save or a journal has filled fields, which cannot be selected.
+        renderScoreButtons();
         return panel;
     }
 
@@ -339,15 +386,13 @@ public class GamePanel extends JPanel {
         public void actionPerformed(ActionEvent e) {
             boolean saved = logic.isDiceSaved(diceIndex);
             if(!saved) {
-                int value = dices[diceIndex];
-                String imagePath = getSavedDiceImage(value);
-                setDiceFaceImage(diceIndex, imagePath);
+                setDiceFaceImage(diceIndex, dices[diceIndex], true);
                 logic.saveDice(diceIndex);
+                journal.recordHold(playerIndex, numberOfThrows);
             } else {
-                int value = dices[diceIndex];
-                String imagePath = getDiceImage(value);
-                setDiceFaceImage(diceIndex, imagePath);
+                setDiceFaceImage(diceIndex, dices[diceIndex], false);
                 logic.unsaveDice(diceIndex);
+                journal.recordHold(playerIndex, numberOfThrows);
             }
         }
     }
@@ -368,13 +413,14 @@ public class GamePanel extends JPanel {
         @Override
         public void actionPerformed(ActionEvent e) {
             logic.throwDices();
-            dices = logic.getDices();
+            logic.getDices(dices);
             setDices();
 
             numberOfThrows++;
+            journal.recordRoll(playerIndex, numberOfThrows);
             updateXThrowsLeft();
             
-            score = logic.calculateScore(playerIndex);
+            logic.calculateScore(playerIndex, score);
             updateScoreButtons();
               
             if(numberOfThrows == 3) 
@@ -382,6 +428,53 @@ public class GamePanel extends JPanel {
         }
     }
 
+	/**
+	 * Shows which dice the hold advisor recommends saving before the next roll. The advice is
+	 * computed by the {@link AdvisorExecutor}, and the button is disabled until it is shown.
+	 */
+	private class HintButtonListener implements ActionListener {
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			if (numberOfThrows >= 3) {
+				showHint("No throws left. Choose a field to add your score to.");
+				return;
+			}
+			// The advice is computed in the background from the turn as it is now.
+			int[] hintDices = logic.getDices();
+			int[] emptyFields = logic.getEmptyFields(playerIndex);
+			int upperTotal = logic.getUpperSectionTotal(playerIndex);
+			int rollsLeft = 3 - numberOfThrows;
+			int hintPlayer = playerIndex;
+			hintButton.setEnabled(false);
+			AdvisorExecutor.submit(hintAdvisor -> hintAdvisor.adviseHold(hintDices, rollsLeft, emptyFields, upperTotal), savedDices -> {
+				hintButton.setEnabled(true);
+				// Advice for a turn that has moved on is dropped.
+				if (playerIndex != hintPlayer || 3 - numberOfThrows != rollsLeft || !Arrays.equals(logic.getDices(), hintDices))
+					return;
+				if (savedDices == 0b11111)
+					showHint("Keep all dice and choose a field.");
+				else if (savedDices == 0)
+					showHint("Roll all dice again.");
+				else {
+					StringBuilder dicesText = new StringBuilder();
+					for (int i = 0; i < diceButtons.length; i++)
+						if ((savedDices & (1 << i)) != 0)
+							dicesText.append(" ").append(i + 1);
+					showHint("Save dice" + dicesText + " and roll again.");
+				}
+			});
+		}
+
+		/**
+		 * Shows a hint in a dialog.
+		 * 
+		 * @param message The hint.
+		 */
+		private void showHint(String message) {
+			JOptionPane.showMessageDialog(scoreArea, message, "Hint", JOptionPane.INFORMATION_MESSAGE);
+		}
+	}
+
 	/**
 	 * Handles the action for the Next button.
 	 */
@@ -401,9 +494,11 @@ public class GamePanel extends JPanel {
 	     */
 		@Override
 		public void actionPerformed(ActionEvent e) {
+			int previousPlayer = playerIndex;
 			if (playerIndex == playerUsernames.length - 1)
 				playerIndex = 0;
 			else playerIndex++;
+			journal.recordTurnEnd(previousPlayer, playerIndex);
 		}
 	}
 
@@ -434,9 +529,11 @@ public class GamePanel extends JPanel {
 				if (logic.isGameOver())
 					displayWinner();
 				else {
+					int previousPlayer = playerIndex;
 					if (playerIndex == playerUsernames.length - 1)
 						playerIndex = 0;
 					else playerIndex++;
+					journal.recordTurnEnd(previousPlayer, playerIndex);
 
 					if (logic.isPlayerDone(playerIndex))
 						nextButton.setEnabled(true);
@@ -449,26 +546,14 @@ public class GamePanel extends JPanel {
 	}
 
 	/**
-	 * Updates the state of score buttons based on current game state.
+	 * Updates the state of score buttons based on current game state. Only the buttons whose
+	 * value or state differ from what they show are changed, so a roll lays out the score grid
+	 * at most once and only repaints the changed buttons.
 	 */
 	private void updateScoreButtons() {
-		if (score[18] != 1) {
-			int[] emptyFields = logic.getEmptyFields(playerIndex);
-			enableScoreButtons();
-			for (int i = 0; i < scoreButtons.length; i++) {
-				if (emptyFields[i] == 0)
-					scoreButtons[i].setEnabled(false);
-				if (i == 7)
-					scoreButtons[i].setText("0");
-				else scoreButtons[i].setText(String.valueOf(score[i]));
-			}
-		} else {
-			for (int i = 0; i < scoreButtons.length; i++) {
-				if (i == 7)
-					scoreButtons[i].setText("0");
-				else scoreButtons[i].setText(String.valueOf(score[i]));
-			}
-			disableScoreButtons();
+		renderScoreButtons();
+
+		if (score[18] == 1) {
 			String message = "Yahtzee! Congratulations!";
 			int choice = JOptionPane.showConfirmDialog(scoreArea, message, "Confirm Score", JOptionPane.YES_NO_OPTION);
 			if (choice == JOptionPane.YES_OPTION) {
@@ -477,9 +562,11 @@ public class GamePanel extends JPanel {
 				if (logic.isGameOver())
 					displayWinner();
 
+				int previousPlayer = playerIndex;
 				if (playerIndex == playerUsernames.length - 1)
 					playerIndex = 0;
 				else playerIndex++;
+				journal.recordTurnEnd(previousPlayer, playerIndex);
 
 				updateScreen();
 			}
@@ -487,30 +574,36 @@ public class GamePanel extends JPanel {
 	}
 
 	/**
-	 * Enables all score buttons and disables those that cannot be used.
+	 * Shows the calculated scores on the score buttons and enables the buttons of the empty
+	 * fields the player can select; no field can be selected after a Yahtzee that scored itself.
 	 */
-	private void enableScoreButtons() {
-		for (int i = 0; i < scoreButtons.length; i++) {
-			scoreButtons[i].setEnabled(true);
-			for (int unchangeableField : unchangeableFields) {
-				if (i == unchangeableField) {
-					scoreButtons[i].setEnabled(false);
-					break;
-				}
-			}
-		}
+	private void renderScoreButtons() {
+		int enabledFields = score[18] == 1 ? 0 : logic.getEmptyFieldsMask(playerIndex) & ~UNCHANGEABLE_FIELDS;
+		for (int i = 0; i < scoreButtons.length; i++)
+			setScoreButton(i, i == 7 ? Math.max(score[i], 0) : score[i], (enabledFields & 1 << i) != 0);
 	}
 
 	/**
-	 * Disables all score buttons.
+	 * Shows a value on a score button and enables or disables it, if it does not already.
+	 * 
+	 * @param field The index of the score button.
+	 * @param value The value to show.
+	 * @param enabled True to enable the button.
 	 */
-	private void disableScoreButtons() {
-		for (int i = 0; i < scoreButtons.length; i++)
-			scoreButtons[i].setEnabled(false);
+	private void setScoreButton(int field, int value, boolean enabled) {
+		if (renderedScores[field] != value) {
+			renderedScores[field] = value;
+			scoreButtons[field].setText(String.valueOf(value));
+		}
+		if (((renderedEnabledFields & 1 << field) != 0) != enabled) {
+			renderedEnabledFields ^= 1 << field;
+			scoreButtons[field].setEnabled(enabled);
+		}
 	}
 
 	/**
-	 * Handles the action for the Save Game button.
+	 * Handles the action for the Save Game button. The game is saved in the background from a copy
+	 * taken when the button is pressed, and the journal is checkpointed once the save is written.
 	 */
 	private class SaveGameButtonListener implements ActionListener {
 		@Override
@@ -518,17 +611,18 @@ public class GamePanel extends JPanel {
 			String message = "Would you like to save your game?";
 			int choice = JOptionPane.showConfirmDialog(scoreArea, message, "Yes", JOptionPane.YES_NO_OPTION);
 			if (choice == JOptionPane.YES_OPTION) {
-				long numberOfFiles = saveGame.getNumberOfFiles();
-				String filePath = "";
-				if (numberOfFiles == 0)
-					filePath = "savedGames/game_1.txt";
-				else if (numberOfFiles == 1)
-					filePath = "savedGames/game_2.txt";
-				else if (numberOfFiles == 2)
-					filePath = "savedGames/game_3.txt";
-				else filePath = "savedGames/game_1.txt";
-
-				saveGame.saveGame(filePath);
+				int savedPlayer = playerIndex;
+				int savedThrows = numberOfThrows;
+				saveGame.setTurn(savedPlayer, savedThrows);
+				SaveGame snapshot = saveGame.copy();
+				byte[] savedState = GameSnapshot.encode(logic, savedPlayer, savedThrows);
+				PersistenceExecutor.submitCoalesced(saveGame, snapshot::saveGame, id -> {
+					// If the game went on while it was being saved, the journal keeps the moves made since.
+					if (id != -1 && Arrays.equals(savedState, GameSnapshot.encode(logic, savedPlayer, savedThrows))) {
+						saveGame.setTurn(savedPlayer, savedThrows);
+						journal.checkpoint(saveGame);
+					}
+				});
 			}
 		}
 	}
@@ -562,12 +656,13 @@ public class GamePanel extends JPanel {
 		logic.unsaveDices();
 
 		logic.throwDices();
-		dices = logic.getDices();
+		logic.getDices(dices);
 		setDices();
 
 		numberOfThrows = 1;
+		journal.recordRoll(playerIndex, numberOfThrows);
 		updateXThrowsLeft();
-		score = logic.calculateScore(playerIndex);
+		logic.calculateScore(playerIndex, score);
 
 		rollButton.setEnabled(true);
 		updateScoreButtons();
@@ -575,16 +670,20 @@ public class GamePanel extends JPanel {
 		if (playerIndex == playerUsernames.length - 1)
 			saveGameButton.setEnabled(true);
 
-		if (playerUsernames[playerIndex].equals("Computer"))
-			makeComputerMove();
+		scheduleComputerMove();
 	}
 
 	/**
 	 * Displays the winner of the game.
 	 */
 	private void displayWinner() {
-		String filePath = "highscores/scores.txt";
-		saveGame.saveFinalScores(filePath);
+		String filePath = Leaderboard.DEFAULT_FILE.toString();
+		SaveGame finishedGame = saveGame.copy();
+		PersistenceExecutor.submit(() -> {
+			finishedGame.saveFinalScores(filePath);
+			return null;
+		}, result -> {});
+		journal.finish();
 		
 	    JPanel scoresPanel = new JPanel();
 	    scoresPanel.setLayout(new GridBagLayout());
@@ -612,13 +711,12 @@ public class GamePanel extends JPanel {
 	    scoresArea.setFont(new Font("Monospaced", Font.PLAIN, 14)); 
 	    
 	    StringBuilder scoresText = new StringBuilder();
-	    scoresText.append(String.format("%-20s %s%n", "Username:", "Score:"));
-	    for(int i = 0; i < playerUsernames.length; i++) {
-	        String playerName = playerUsernames[i];
-	        int[] finalScore = logic.getPlayerScore(i);
-	        int finalTotal = finalScore[17];
-	        scoresText.append(String.format("%-20s %d%n", playerName, finalTotal));
-	    }
+	    scoresText.append(String.format("%-6s %-20s %s%n", "Rank:", "Username:", "Score:"));
+	    int[] standings = logic.getTopPlayers(playerUsernames.length);
+	    int[] ranks = logic.getRanks();
+	    int[] finalTotals = logic.getFinalTotals(new int[playerUsernames.length]);
+	    for(int playerIndex : standings)
+	        scoresText.append(String.format("%-6d %-20s %d%n", ranks[playerIndex], playerUsernames[playerIndex], finalTotals[playerIndex]));
 	    
 	    scoresArea.setText(scoresText.toString());
 	    c.fill = GridBagConstraints.HORIZONTAL;
@@ -642,19 +740,80 @@ public class GamePanel extends JPanel {
 	}
 	   
 	/**
-	 * Makes the computer perform its move by selecting the best score button.
+	 * Schedules the next move of the computer if it is the computer's turn. The moves are played
+	 * one at a time by a timer on the event dispatch thread, so the window stays responsive
+	 * between them and every move starts from an empty call stack.
+	 */
+	private void scheduleComputerMove() {
+		if (disposed || advisor == null || !playerUsernames[playerIndex].equals("Computer"))
+			return;
+		if (computerTimer == null) {
+			computerTimer = new Timer(computerMoveDelay, e -> makeComputerMove());
+			computerTimer.setRepeats(false);
+		}
+		computerTimer.setInitialDelay(computerMoveDelay);
+		computerTimer.restart();
+	}
+
+	/**
+	 * Makes the computer perform one move: it saves the advised dice and rolls while that
+	 * improves its expected score, otherwise it selects the best score button.
 	 */
 	private void makeComputerMove() {
+		// A Yahtzee is scored as soon as it is rolled, which ends the turn.
+		if (logic.isGameOver() || !playerUsernames[playerIndex].equals("Computer") || score[18] == 1)
+			return;
+
+		int computerIndex = playerIndex;
+		if (numberOfThrows < 3) {
+			int savedDices = logic.getBestSavedDices(playerIndex, 3 - numberOfThrows, advisor);
+			if (savedDices != 0b11111) {
+				logic.setSavedDices(savedDices);
+				journal.recordHold(playerIndex, numberOfThrows);
+				setDices();
+				rollButton.doClick();
+				if (playerIndex == computerIndex)
+					scheduleComputerMove();
+				return;
+			}
+		}
+
 		int[] emptyFields = logic.getEmptyFields(playerIndex);
 		int bestScoreIndex = logic.getBestIndex(emptyFields, score);
 
 		JButton buttonToPress = scoreButtons[bestScoreIndex];
 		buttonToPress.doClick();
-		try {
-			Thread.sleep(1000);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		}
 	}
 
+	/**
+	 * Stops the moves of the computer when the panel is no longer shown.
+	 */
+	@Override
+	public void removeNotify() {
+		super.removeNotify();
+		disposed = true;
+		if (computerTimer != null)
+			computerTimer.stop();
+	}
+
+	/**
+	 * Sets the delay before each move of a computer player.
+	 * 
+	 * @param delay The delay in milliseconds; 0 plays the computer's moves without pausing.
+	 * @throws IllegalArgumentException if the delay is negative.
+	 */
+	public static void setComputerMoveDelay(int delay) {
+		if (delay < 0)
+			throw new IllegalArgumentException("Invalid input: The delay cannot be negative.");
+		computerMoveDelay = delay;
+	}
+
+	/**
+	 * Returns the delay before each move of a computer player.
+	 * 
+	 * @return The delay in milliseconds.
+	 */
+	public static int getComputerMoveDelay() {
+		return computerMoveDelay;
+	}
 }
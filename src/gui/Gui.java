@@ -9,17 +9,26 @@ import java.awt.Insets;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.List;
 
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
 
 import logic.Logic;
+import saveGame.CatalogEntry;
+import saveGame.Leaderboard;
+import saveGame.MoveJournal;
+import saveGame.PlayerStatistics;
 import saveGame.SaveGame;
+import saveGame.SaveGameCatalog;
 
 /**
  * Represents the Gui class, which manages the gui-based interface for the application.
@@ -27,6 +36,8 @@ import saveGame.SaveGame;
  * initializing and managing different screens or prompts within the gui environment.
  */
 public class Gui {
+    private static final String COMPUTER_DELAY_PROPERTY = "yahtzee.computerDelay";
+    
     private JFrame frame;
     private String[] playerUsernames;
     private Logic logic;
@@ -37,10 +48,29 @@ public class Gui {
      * Constructor to initialize the GUI and display the start screen.
      */
     public Gui() {
+        DiceIcons.preload();
+        AdvisorExecutor.preload();
+        setComputerMoveDelay();
         init(); 
         startScreen(); 
+        resumeUnfinishedGame();
     }
     
+    /**
+     * Sets the delay before each move of a computer player from the yahtzee.computerDelay
+     * system property, in milliseconds, if it is set.
+     */
+    private void setComputerMoveDelay() {
+        Integer delay = Integer.getInteger(COMPUTER_DELAY_PROPERTY);
+        if (delay == null)
+            return;
+        try {
+            GamePanel.setComputerMoveDelay(delay);
+        } catch (IllegalArgumentException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Initialize the main JFrame for the game.
      */
@@ -52,6 +82,34 @@ public class Gui {
         frame.setLocationRelativeTo(null);
     }
 
+    /**
+     * Offers to continue the game that was interrupted before it was over, recovered from its journal.
+     * A game that is not continued is discarded.
+     */
+    private void resumeUnfinishedGame() {
+        SaveGame recovered;
+        try {
+            recovered = MoveJournal.recover(MoveJournal.DEFAULT_FILE);
+        } catch (IOException e) {
+            e.printStackTrace();
+            MoveJournal.discard(MoveJournal.DEFAULT_FILE);
+            return;
+        }
+        if(recovered == null)
+            return;
+
+        Logic recoveredLogic = recovered.getLogic();
+        String message = "The game of " + String.join(", ", recoveredLogic.getPlayers()) + " (round " + recoveredLogic.getRound() 
+            + "/13) was not finished. Would you like to continue it?";
+        int choice = JOptionPane.showConfirmDialog(frame, message, "Unfinished Game", JOptionPane.YES_NO_OPTION);
+        if(choice == JOptionPane.YES_OPTION) {
+            saveGame = recovered;
+            logic = recoveredLogic;
+            playerUsernames = saveGame.getPlayerUsernames();
+            startGame();
+        } else MoveJournal.discard(MoveJournal.DEFAULT_FILE);
+    }
+
     /**
      * Display the start screen with buttons for Play Game, About, High Scores, and Exit.
      */
@@ -183,11 +241,18 @@ public class Gui {
     }
 
     /**
-     * Display the screen for loading saved games.
+     * Display the screen for loading saved games, once they have been listed from the saved game catalog in the background.
      */
     private void loadGames() {
-        logic = new Logic();
-        saveGame = new SaveGame(logic);
+        PersistenceExecutor.submit(() -> SaveGameCatalog.getInstance().getEntries(), this::loadGames);
+    }
+
+    /**
+     * Display the screen for loading saved games.
+     * 
+     * @param entries The catalog entries of the saved games, the most recently saved first.
+     */
+    private void loadGames(List<CatalogEntry> entries) {
         JPanel panel = new JPanel(new GridBagLayout());
         panel.setBackground(new Color(21, 88, 67)); 
 
@@ -203,59 +268,74 @@ public class Gui {
         heading.setForeground(Color.WHITE); 
         panel.add(heading, c);
 
-        long numberOfFiles = saveGame.getNumberOfFiles(); 
+        String[] descriptions = new String[entries.size()];
+        for(int i = 0; i < descriptions.length; i++)
+            descriptions[i] = entries.get(i).describe();
         
         c.gridy++;
-        JButton game1 = new JButton("Game 1");
-        game1.setPreferredSize(new Dimension(80, game1.getPreferredSize().height));
-        game1.addActionListener(e -> {
-            if(numberOfFiles >= 1) {
-                saveGame.loadGame("savedGames/game_1.txt"); 
-                playerUsernames = saveGame.getPlayerUsernames();
-                startGame(); 
-            }
-        });
-        if(numberOfFiles < 1) game1.setEnabled(false);
-        panel.add(game1, c);
-
-        c.gridy++;
-        JButton game2 = new JButton("Game 2");
-        game2.setPreferredSize(new Dimension(80, game2.getPreferredSize().height));
-        game2.addActionListener(e -> {
-            if(numberOfFiles >= 2) {
-                saveGame.loadGame("savedGames/game_2.txt"); 
-                playerUsernames = saveGame.getPlayerUsernames();
-                startGame(); 
-            }
-        });
-        if(numberOfFiles < 2) game2.setEnabled(false);
-        panel.add(game2, c);
+        JList<String> gameList = new JList<>(descriptions);
+        gameList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        gameList.setFont(new Font("Monospaced", Font.PLAIN, 14)); 
+        JScrollPane scrollPane = new JScrollPane(gameList);
+        scrollPane.setPreferredSize(new Dimension(700, 400));
+        panel.add(scrollPane, c);
 
         c.gridy++;
-        JButton game3 = new JButton("Game 3");
-        game3.setPreferredSize(new Dimension(80, game3.getPreferredSize().height));
-        game3.addActionListener(e -> {
-            if(numberOfFiles == 3) {
-                saveGame.loadGame("savedGames/game_3.txt"); 
-                playerUsernames = saveGame.getPlayerUsernames();
-                startGame(); 
+        JButton loadButton = new JButton(entries.isEmpty() ? "No saved games" : "Load");
+        loadButton.setEnabled(false);
+        gameList.addListSelectionListener(e -> loadButton.setEnabled(gameList.getSelectedIndex() >= 0));
+        loadButton.addActionListener(e -> {
+            int index = gameList.getSelectedIndex();
+            if(index >= 0) {
+                int id = entries.get(index).getId();
+                loadButton.setEnabled(false);
+                gameList.setEnabled(false);
+                PersistenceExecutor.submit(() -> {
+                    SaveGame loadedGame = new SaveGame(new Logic());
+                    loadedGame.loadGame(id);
+                    return loadedGame;
+                }, loadedGame -> {
+                    saveGame = loadedGame;
+                    logic = saveGame.getLogic();
+                    playerUsernames = saveGame.getPlayerUsernames();
+                    startGame();
+                });
             }
         });
-        if(numberOfFiles < 3) game3.setEnabled(false);
-        panel.add(game3, c);
+        panel.add(loadButton, c);
         addBackButton(panel, c); 
         initScreen(panel); 
     }
     
     /**
-     * Displays the high scores.
+     * Displays the high scores, once they have been read from the leaderboard in the background.
      */
     private void displayHighScores() {
-    	logic = new Logic();
-    	saveGame = new SaveGame(logic);
-    	String filePath = "highscores/scores.txt";
-    	saveGame.processHighScores(filePath);
-    	
+        PersistenceExecutor.submit(() -> {
+            Leaderboard leaderboard = Leaderboard.getInstance();
+            StringBuilder highScoresText = new StringBuilder();
+            highScoresText.append(String.format("%-20s %s%n", "Username:", "Score:"));
+            for (int entry : leaderboard.getTop(Leaderboard.HIGH_SCORES_SHOWN)) 
+                highScoresText.append(String.format("%-20s %d%n", leaderboard.getPlayer(entry), leaderboard.getScore(entry)));
+
+            StringBuilder statisticsText = new StringBuilder();
+            statisticsText.append(String.format("%-20s %5s %5s %7s %6s %7s%n", "Username:", "Games", "Best", "Average", "Bonus", "Yahtzee"));
+            for (String player : leaderboard.getBestPlayers(Leaderboard.HIGH_SCORES_SHOWN)) {
+                PlayerStatistics statistics = leaderboard.getStatistics(player);
+                statisticsText.append(String.format("%-20s %5d %5d %7.1f %6s %7s%n", player, statistics.getGames(), statistics.getBestScore(),
+                		statistics.getAverageScore(), statistics.formatRate(statistics.getBonusRate()), statistics.formatRate(statistics.getYahtzeeRate())));
+            }
+            return new String[] { highScoresText.toString(), statisticsText.toString() };
+        }, texts -> displayHighScores(texts[0], texts[1]));
+    }
+
+    /**
+     * Displays the high scores.
+     * 
+     * @param highScoresText The best scores, one per line.
+     * @param statisticsText The statistics of the best players, one per line.
+     */
+    private void displayHighScores(String highScoresText, String statisticsText) {
     	JPanel panel = new JPanel(new GridBagLayout());
         panel.setBackground(new Color(21, 88, 67)); 
 
@@ -264,6 +344,7 @@ public class Gui {
         c.anchor = GridBagConstraints.CENTER;
         c.fill = GridBagConstraints.HORIZONTAL;
         c.gridx = 0;
+        c.gridwidth = 2;
         
         c.gridy = 0;
         JLabel heading = new JLabel("High Scores");
@@ -272,6 +353,7 @@ public class Gui {
         panel.add(heading, c);
 
         c.gridy++;
+        c.gridwidth = 1;
         JTextArea highScoresArea = new JTextArea();
         highScoresArea.setEditable(false);
         highScoresArea.setLineWrap(true);
@@ -280,19 +362,24 @@ public class Gui {
         highScoresArea.setBackground(new Color(21, 88, 67)); 
         highScoresArea.setForeground(Color.WHITE);
         highScoresArea.setFont(new Font("Monospaced", Font.PLAIN, 14)); 
-        
-        String[] playerNames = saveGame.getPlayerNames(filePath);
-        int[] playerScores = saveGame.getPlayerScores(filePath);
 
-        StringBuilder highScoresText = new StringBuilder();
-        highScoresText.append(String.format("%-20s %s%n", "Username:", "Score:"));
-        for (int i = 0; i < playerNames.length; i++) 
-            highScoresText.append(String.format("%-20s %d%n", playerNames[i], playerScores[i]));
-
-        highScoresArea.setText(highScoresText.toString());
+        highScoresArea.setText(highScoresText);
         panel.add(highScoresArea, c);
 
+        c.gridx = 1;
+        JTextArea statisticsArea = new JTextArea();
+        statisticsArea.setEditable(false);
+        statisticsArea.setPreferredSize(new Dimension(480, 400));
+        statisticsArea.setBackground(new Color(21, 88, 67)); 
+        statisticsArea.setForeground(Color.WHITE);
+        statisticsArea.setFont(new Font("Monospaced", Font.PLAIN, 14)); 
+
+        statisticsArea.setText(statisticsText);
+        panel.add(statisticsArea, c);
+
+        c.gridx = 0;
         c.gridy++;
+        c.gridwidth = 2;
         addBackButton(panel, c);
         initScreen(panel);
     }
@@ -483,9 +570,10 @@ public class Gui {
 
 	/**
 	 * Starts the game by initializing the GamePanel and displaying it.
+	 * A loaded game continues with the turn that was in progress when it was saved.
 	 */
 	private void startGame() {   
-		gamePanel = new GamePanel(this, logic, saveGame, playerUsernames);
+		gamePanel = new GamePanel(this, logic, saveGame, playerUsernames, saveGame.getCurrentPlayer(), saveGame.getThrowsUsed());
 		
 		GridBagConstraints c = new GridBagConstraints();
 		c.gridx = 0;
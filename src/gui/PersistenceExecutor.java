@@ -0,0 +1,102 @@
+package gui;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs the file operations of the GUI, such as saving games and reading the high scores, on a
+ * background thread, so that the window stays responsive while the disk is slow.
+ *
+ * Tasks run one at a time in the order they were submitted, so a task sees the files as the
+ * tasks before it left them. The result of a task is handed to its callback on the event
+ * dispatch thread. Tasks must not touch Swing components or game state that the event
+ * dispatch thread changes; they work on data captured when they were submitted.
+ */
+final class PersistenceExecutor {
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<Object, Task<?>> waitingTasks = new HashMap<>();
+
+    /**
+     * Default constructor for the PersistenceExecutor class; the class only has static methods.
+     */
+    private PersistenceExecutor() {}
+
+    /**
+     * Runs a task on the background thread.
+     *
+     * @param <T> The type of the result.
+     * @param task The task.
+     * @param onDone Receives the result on the event dispatch thread; it is not called if the task fails.
+     */
+    static <T> void submit(Callable<T> task, Consumer<T> onDone) {
+        executor.execute(new Task<>(task, onDone));
+    }
+
+    /**
+     * Runs a task on the background thread, replacing the task with the same key that is still
+     * waiting to run, so that repeated saves of a game write it only once.
+     *
+     * @param <T> The type of the result.
+     * @param key The key of the task, such as the game it saves.
+     * @param task The task.
+     * @param onDone Receives the result on the event dispatch thread; the callback of a replaced task is not called.
+     */
+    static <T> void submitCoalesced(Object key, Callable<T> task, Consumer<T> onDone) {
+        Task<T> newTask = new Task<>(task, onDone);
+        synchronized(waitingTasks) {
+            if(waitingTasks.put(key, newTask) != null)
+                return;
+        }
+        executor.execute(() -> {
+            Task<?> latestTask;
+            synchronized(waitingTasks) {
+                latestTask = waitingTasks.remove(key);
+            }
+            latestTask.run();
+        });
+    }
+
+    /**
+     * A task and the callback that receives its result.
+     *
+     * @param <T> The type of the result.
+     */
+    private static final class Task<T> implements Runnable {
+        private final Callable<T> task;
+        private final Consumer<T> onDone;
+
+        /**
+         * Constructor for the Task class.
+         *
+         * @param task1 The task.
+         * @param onDone1 The callback.
+         */
+        Task(Callable<T> task1, Consumer<T> onDone1) {
+            task = task1;
+            onDone = onDone1;
+        }
+
+        @Override
+        public void run() {
+            T result;
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+                return;
+            }
+            SwingUtilities.invokeLater(() -> onDone.accept(result));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Enumerates the unordered combinations of dice used by the optimal strategy.
+ *
+ * A keep is a multiset of zero to five dice that a player holds before rolling again;
+ * the 252 keeps of exactly five dice are the possible rolls. Keeps are identified by an
+ * index (0-461) and rolls by their own index (0-251). A keep is also described by its key,
+ * the count of every face read as a base-6 number.
+ */
+final class DiceCombinations {
+    /**
+     * Number of different unordered rolls of five dice.
+     */
+    static final int NUMBER_OF_ROLLS = 252;
+
+    /**
+     * Number of different multisets of zero to five dice.
+     */
+    static final int NUMBER_OF_KEEPS = 462;
+
+    /**
+     * Powers of six, used to build keys and ordered roll indices.
+     */
+    static final int[] POWERS_OF_SIX = {1, 6, 36, 216, 1296, 7776, 46656};
+
+    /**
+     * Key of every keep.
+     */
+    static final int[] KEEP_KEYS = new int[NUMBER_OF_KEEPS];
+
+    /**
+     * Number of dice in every keep.
+     */
+    static final int[] KEEP_SIZES = new int[NUMBER_OF_KEEPS];
+
+    /**
+     * Keep index of every key, or -1 for keys of more than five dice.
+     */
+    private static final short[] KEY_KEEPS = new short[POWERS_OF_SIX[6]];
+
+    /**
+     * Keep index of every roll.
+     */
+    static final int[] ROLL_KEEPS = new int[NUMBER_OF_ROLLS];
+
+    /**
+     * Roll index of every keep, or -1 for keeps of fewer than five dice.
+     */
+    static final int[] KEEP_ROLLS = new int[NUMBER_OF_KEEPS];
+
+    /**
+     * One ordered roll index of every roll, used to read the {@link ScoreTable}.
+     */
+    static final int[] ROLL_ORDERED = new int[NUMBER_OF_ROLLS];
+
+    /**
+     * Roll index of every ordered roll.
+     */
+    private static final short[] ORDERED_ROLLS = new short[ScoreTable.NUMBER_OF_ROLLS];
+
+    /**
+     * Probability of every roll when all five dice are thrown.
+     */
+    static final double[] ROLL_PROBABILITIES = new double[NUMBER_OF_ROLLS];
+
+    /**
+     * Start of the sub-keeps of every roll in {@link #SUB_KEEPS}; the sub-keeps of roll r
+     * are stored from SUB_KEEP_STARTS[r] up to SUB_KEEP_STARTS[r + 1].
+     */
+    static final int[] SUB_KEEP_STARTS = new int[NUMBER_OF_ROLLS + 1];
+
+    /**
+     * Distinct keeps that can be held from every roll, stored roll after roll.
+     */
+    static final int[] SUB_KEEPS;
+
+    static {
+        Arrays.fill(KEY_KEEPS, (short) -1);
+        Arrays.fill(KEEP_ROLLS, -1);
+
+        int keep = 0;
+        int roll = 0;
+        for(int size = 0; size <= 5; size++)
+            for(int key = 0; key < POWERS_OF_SIX[6]; key++)
+                if(sizeOfKey(key) == size) {
+                    KEEP_KEYS[keep] = key;
+                    KEEP_SIZES[keep] = size;
+                    KEY_KEEPS[key] = (short) keep;
+                    if(size == 5) {
+                        ROLL_KEEPS[roll] = keep;
+                        KEEP_ROLLS[keep] = roll;
+                        roll++;
+                    }
+                    keep++;
+                }
+
+        for(int ordered = 0; ordered < ScoreTable.NUMBER_OF_ROLLS; ordered++) {
+            int r = KEEP_ROLLS[KEY_KEEPS[keyOfOrderedRoll(ordered, 0b11111)]];
+            ORDERED_ROLLS[ordered] = (short) r;
+            ROLL_ORDERED[r] = ordered;
+            ROLL_PROBABILITIES[r] += 1.0 / ScoreTable.NUMBER_OF_ROLLS;
+        }
+
+        int[] subKeeps = new int[NUMBER_OF_ROLLS * 32];
+        int count = 0;
+        int[] found = new int[32];
+        for(int r = 0; r < NUMBER_OF_ROLLS; r++) {
+            SUB_KEEP_STARTS[r] = count;
+            int distinct = 0;
+            for(int saved = 0; saved < 32; saved++) {
+                int k = KEY_KEEPS[keyOfOrderedRoll(ROLL_ORDERED[r], saved)];
+                boolean isNew = true;
+                for(int i = 0; i < distinct; i++)
+                    if(found[i] == k) {
+                        isNew = false;
+                        break;
+                    }
+                if(isNew)
+                    found[distinct++] = k;
+            }
+            Arrays.sort(found, 0, distinct);
+            System.arraycopy(found, 0, subKeeps, count, distinct);
+            count += distinct;
+        }
+        SUB_KEEP_STARTS[NUMBER_OF_ROLLS] = count;
+        SUB_KEEPS = Arrays.copyOf(subKeeps, count);
+    }
+
+    // Private constructor to prevent instantiation.
+    private DiceCombinations() {}
+
+    /**
+     * Returns the roll index of an ordered roll.
+     *
+     * @param orderedRoll Index of the ordered roll, see {@link ScoreTable#rollIndex(int, int, int, int, int)}.
+     * @return The index of the unordered roll (0-251).
+     */
+    static int rollOfOrderedRoll(int orderedRoll) { return ORDERED_ROLLS[orderedRoll]; }
+
+    /**
+     * Returns the keep index of a key.
+     *
+     * @param key Count of every face read as a base-6 number.
+     * @return The index of the keep, or -1 if the key holds more than five dice.
+     */
+    static int keepOfKey(int key) { return KEY_KEEPS[key]; }
+
+    /**
+     * Returns the keep left when some dice of an ordered roll are held.
+     *
+     * @param orderedRoll Index of the ordered roll.
+     * @param savedMask Held dice, bit i standing for die i.
+     * @return The index of the keep.
+     */
+    static int keepOfOrderedRoll(int orderedRoll, int savedMask) {
+        return KEY_KEEPS[keyOfOrderedRoll(orderedRoll, savedMask)];
+    }
+
+    /**
+     * Calculates the key of the dice held from an ordered roll.
+     *
+     * @param orderedRoll Index of the ordered roll.
+     * @param savedMask Held dice, bit i standing for die i.
+     * @return The key of the held dice.
+     */
+    private static int keyOfOrderedRoll(int orderedRoll, int savedMask) {
+        int key = 0;
+        for(int i = 0; i < 5; i++, orderedRoll /= 6)
+            if((savedMask & (1 << i)) != 0)
+                key += POWERS_OF_SIX[orderedRoll % 6];
+        return key;
+    }
+
+    /**
+     * Counts the dice described by a key.
+     *
+     * @param key Count of every face read as a base-6 number.
+     * @return The number of dice.
+     */
+    private static int sizeOfKey(int key) {
+        int size = 0;
+        for(; key > 0; key /= 6)
+            size += key % 6;
+        return size;
+    }
+}
@@ -0,0 +1,95 @@
+package logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Advises which dice to hold before rolling again, for the computer player and as a hint
+ * for human players.
+ *
+ * The advice is exact: for every way of holding the current dice, the expected final score
+ * is calculated over all outcomes of the reroll under the optimal {@link Strategy}, and the
+ * best hold is returned. The expected values of all holds only depend on the game state,
+ * so they are calculated once per state and kept in a bounded cache; every further roll
+ * from the same state is answered with at most 32 lookups.
+ */
+public class HoldAdvisor {
+    /**
+     * Number of game states whose hold values are cached.
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    private static HoldAdvisor instance;
+
+    private final Strategy strategy;
+    private final TurnEvaluator evaluator = new TurnEvaluator();
+    private final Map<Integer, double[][]> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, double[][]> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Constructor creating an advisor for a strategy.
+     *
+     * @param strategy1 The strategy whose expected values the advice is based on.
+     */
+    public HoldAdvisor(Strategy strategy1) { strategy = strategy1; }
+
+    /**
+     * Returns the advisor shared by all games, based on {@link Strategy#getInstance()}.
+     *
+     * @return The shared advisor.
+     */
+    public static synchronized HoldAdvisor getInstance() {
+        if(instance == null)
+            instance = new HoldAdvisor(Strategy.getInstance());
+        return instance;
+    }
+
+    /**
+     * Advises which dice to hold.
+     *
+     * @param dices Array of the five dice values, as returned by {@link Logic#getDices()}.
+     * @param rollsLeft Number of rolls left in the turn (1-2).
+     * @param emptyFields Array of the empty fields, as returned by {@link Logic#getEmptyFields(int)}.
+     * @param upperTotal Sum of the filled upper section fields.
+     * @return The dice to hold, bit i standing for die i; 31 means the roll should be scored now.
+     * @throws IllegalArgumentException if the number of rolls left is out of range or no category is empty.
+     */
+    public int adviseHold(int[] dices, int rollsLeft, int[] emptyFields, int upperTotal) {
+        int filled = 0;
+        for(int category = 0; category < ScoreTable.NUMBER_OF_CATEGORIES; category++)
+            if(emptyFields[ScoreTable.fieldOfCategory(category)] == 0)
+                filled |= 1 << category;
+        return adviseHold(ScoreTable.rollIndex(dices), rollsLeft, filled, upperTotal);
+    }
+
+    /**
+     * Advises which dice to hold.
+     *
+     * @param orderedRoll Index of the roll, see {@link ScoreTable#rollIndex(int, int, int, int, int)}.
+     * @param rollsLeft Number of rolls left in the turn (1-2).
+     * @param filled Bitmask of the filled categories.
+     * @param upperTotal Sum of the filled upper section fields.
+     * @return The dice to hold, bit i standing for die i; 31 means the roll should be scored now.
+     * @throws IllegalArgumentException if the number of rolls left is out of range or no category is empty.
+     */
+    public synchronized int adviseHold(int orderedRoll, int rollsLeft, int filled, int upperTotal) {
+        if(rollsLeft < 1 || rollsLeft > 2)
+            throw new IllegalArgumentException("Invalid input: The number of rolls left must be 1 or 2.");
+        if(filled == Strategy.ALL_CATEGORIES)
+            throw new IllegalArgumentException("Invalid input: Every category is already filled.");
+
+        int upper = Math.min(upperTotal, Strategy.UPPER_BONUS_THRESHOLD);
+        int state = Strategy.stateIndex(filled, upper);
+        double[][] keepValues = cache.get(state);
+        if(keepValues == null) {
+            evaluator.evaluate(strategy.getValues(), filled, upper);
+            keepValues = new double[][] { null, evaluator.keepValues[1].clone(), evaluator.keepValues[2].clone() };
+            cache.put(state, keepValues);
+        }
+        return Strategy.bestSavedMask(keepValues[rollsLeft], orderedRoll);
+    }
+}
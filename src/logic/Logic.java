@@ -1,24 +1,28 @@
 package logic;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import dice.Dice;
+import dice.DiceState;
 import score.Score;
+import score.ScoreBoard;
 
 /**
  * Handles the game logic for a Yahtzee game, including dice operations and score calculations.
+ * The score cards of all players are kept in one columnar {@link ScoreBoard}, so games with
+ * thousands of players find their winner by scanning contiguous arrays.
  */
 public class Logic {
-    private Dice dice_1;
-    private Dice dice_2;
-    private Dice dice_3;
-    private Dice dice_4;
-    private Dice dice_5;
+    private static final int FINAL_TOTAL = 17;
+    private static final int SCORING_FIELDS = 0b1111111000111111;
+    
+    private int diceState;
+    private Dice roller;
+    private boolean bulkThrows;
     
     private int numberOfPlayers;
-    private Score[] table;
+    private ScoreBoard board;
     
     /**
      * Default constructor initializing with default players: "User" and "Computer".
@@ -30,16 +34,23 @@ public class Logic {
      * 
      * @param players Array of player names.
      */
-    public Logic(String[] players) {
+    public Logic(String[] players) { this(players, new SplittableRandom()); }
+    
+    /**
+     * Constructor initializing the game with a specified list of players and source of random values.
+     * Games created with generators seeded alike, see {@link Dice#seeded(long)}, throw the same dice.
+     * 
+     * @param players Array of player names.
+     * @param random The generator the dice are thrown with; it must not be shared between threads.
+     */
+    public Logic(String[] players, RandomGenerator random) {
         numberOfPlayers = players.length;
-        table = new Score[numberOfPlayers];
+        board = new ScoreBoard(numberOfPlayers);
         
-        for(int i = 0; i < numberOfPlayers; i++) {
-            table[i] = new Score();
+        for(int i = 0; i < numberOfPlayers; i++)
             getScoreAt(i).setPlayer(players[i]);    
-        }
         
-        init();
+        init(random);
     } 
     
     /**
@@ -50,292 +61,137 @@ public class Logic {
     public int getNumberOfPlayers() { return numberOfPlayers; }
     
     /**
-     * Initializes the dice objects for the game.
-     */
-    private void init() {
-        dice_1 = new Dice(1, false);
-        dice_2 = new Dice(1, false);
-        dice_3 = new Dice(1, false);
-        dice_4 = new Dice(1, false);
-        dice_5 = new Dice(1, false);
-    }
-
-    /**
-     * Retrieves the Score object for a given player index.
+     * Initializes the dice for the game.
      * 
-     * @param i Index of the player.
-     * @return The Score object for the player.
-     * @throws IllegalArgumentException if the index is out of range.
+     * @param random The generator the dice are thrown with.
      */
-    private Score getScoreAt(int i) {
-        if(i < 0 || i >= numberOfPlayers) 
-            throw new IllegalArgumentException("Invalid input: Index out of range.");
-        return table[i];
+    private void init(RandomGenerator random) {
+        diceState = DiceState.INITIAL;
+        roller = new Dice(1, false, random);
     }
     
     /**
-     * Retrieves the score for all categories for a specific player.
+     * Replaces the generator the dice are thrown with, for example to replay a game from a seed.
      * 
-     * @param i Index of the player.
-     * @return Array of scores for the player.
+     * @param random The new source of random values.
      */
-    public int[] getPlayerScore(int i) {
-        Score player = getScoreAt(i);
-        return player.getFieldValues();
-    }
-
-    /**
-     * Creates an array that counts the number of times each dice value appears.
-     * 
-     * @return Array of counts for dice values (1-6).
-     */
-    private int[] createDiceValueRepeatingArray() {
-        int[] counts = new int[6]; 
-        counts[dice_1.getValue() - 1]++;
-        counts[dice_2.getValue() - 1]++;
-        counts[dice_3.getValue() - 1]++;
-        counts[dice_4.getValue() - 1]++;
-        counts[dice_5.getValue() - 1]++;
-        return counts; 
-    }
+    public void setRandom(RandomGenerator random) { roller.setRandom(random); }
     
     /**
-     * Calculates the score for 'Aces' based on the dice values.
-     * 
-     * @return Score for 'Aces'.
-     */
-    private int calculateAces() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return counts[0]; 
-    }
-
-    /**
-     * Calculates the score for 'Twos' based on the dice values.
-     * 
-     * @return Score for 'Twos'.
-     */
-    private int calculateTwos() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return 2 * counts[1]; 
-    }
-
-    /**
-     * Calculates the score for 'Threes' based on the dice values.
-     * 
-     * @return Score for 'Threes'.
-     */
-    private int calculateThrees() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return 3 * counts[2]; 
-    }
-
-    /**
-     * Calculates the score for 'Fours' based on the dice values.
+     * Chooses how the dice are thrown. In bulk mode all dice are thrown from a single random
+     * value, see {@link Dice#throwDices()}; otherwise every unsaved die draws its own value.
+     * Both modes are unbiased, but they consume the generator differently, so a seeded game
+     * is only replayed exactly in the mode it was played in.
      * 
-     * @return Score for 'Fours'.
+     * @param bulkThrows1 True to throw all dice from one random value.
      */
-    private int calculateFours() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return 4 * counts[3]; 
-    }
-
-    /**
-     * Calculates the score for 'Fives' based on the dice values.
-     * 
-     * @return Score for 'Fives'.
-     */
-    private int calculateFives() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return 5 * counts[4]; 
-    }
-
-    /**
-     * Calculates the score for 'Sixes' based on the dice values.
-     * 
-     * @return Score for 'Sixes'.
-     */
-    private int calculateSixes() { 
-        int[] counts = createDiceValueRepeatingArray();
-        return 6 * counts[5]; 
-    }
-    
-    /**
-     * Creates an array of the current values of all dice.
-     * 
-     * @return Array of dice values.
-     */
-    private int[] createDiceValueArray() {
-        int[] dices = new int[5];
-        dices[0] = dice_1.getValue();
-        dices[1] = dice_2.getValue();
-        dices[2] = dice_3.getValue();
-        dices[3] = dice_4.getValue();
-        dices[4] = dice_5.getValue();
-        return dices; 
-    }
+    public void setBulkThrows(boolean bulkThrows1) { bulkThrows = bulkThrows1; }
     
     /**
-     * Calculates the score for 'X of a Kind' excluding a specific dice value.
+     * Checks whether the dice are thrown in bulk mode.
      * 
-     * @param x The number of matching dice required (3, 4, etc.).
-     * @param j The index of the dice value to exclude (-1 for none).
-     * @return Array containing the dice value and the calculated score.
-     * @throws IllegalArgumentException if the parameters are out of range.
+     * @return True if all dice are thrown from one random value.
      */
-    private int[] calculateXOfAKindWithoutOne(int x, int j) {
-        if(x < 1 || x > 5 || j < -1 || j > 5) 
-            throw new IllegalArgumentException("Invalid input: The value for 'Number of dices' must be between 1 and 5.");
-        
-        int[] counts = createDiceValueRepeatingArray();
-        for(int i = 0; i < counts.length; i++) 
-            if(i != j && counts[i] >= x) {
-                int totalScore = calculateChance();
-                return new int[]{i, totalScore};
-            }
-        
-        return new int[]{-1, 0};
-    }
+    public boolean isBulkThrows() { return bulkThrows; }
     
     /**
-     * Calculates the score for 'X of a Kind'.
-     * 
-     * @param x The number of matching dice required (3, 4, etc.).
-     * @return Score for 'X of a Kind'.
-     */
-    private int calculateXOfAKind(int x) {
-        int[] score = calculateXOfAKindWithoutOne(x, -1);
-        return score[1];
-    }
-  
-    /**
-     * Calculates the score for 'Three of a Kind'.
-     * 
-     * @return Score for 'Three of a Kind'.
-     */
-    private int calculateThreeOfAKind() { return calculateXOfAKind(3); }
-
-    /**
-     * Calculates the score for 'Four of a Kind'.
+     * Retrieves the packed state of all dice, see {@link DiceState}.
      * 
-     * @return Score for 'Four of a Kind'.
+     * @return The dice values and saved flags packed into an int.
      */
-    private int calculateFourOfAKind() { return calculateXOfAKind(4); }
+    public int getDiceState() { return diceState; }
     
     /**
-     * Calculates the score for a 'Full House'.
+     * Replaces the state of all dice with a packed state, see {@link DiceState}.
      * 
-     * @return Score for 'Full House', 25 if valid, otherwise 0.
+     * @param diceState1 The dice values and saved flags packed into an int.
      */
-    private int calculateFullHouse() {
-        int[] checkThree = calculateXOfAKindWithoutOne(3, -1);
-        boolean threeOfAKind = (checkThree[0] != -1);
-        if(threeOfAKind) {
-            int[] checkTwo = calculateXOfAKindWithoutOne(2, checkThree[0]);
-            boolean twoOfAKind = checkTwo[1] != 0;
-            if(twoOfAKind) 
-                return 25;
-        }
-        return 0;
-    }
+    public void setDiceState(int diceState1) { diceState = diceState1; }
 
     /**
-     * Calculates the number of consecutive dice values.
+     * Retrieves the Score object for a given player index.
      * 
-     * @return The maximum number of consecutive dice values.
+     * @param i Index of the player.
+     * @return The Score object for the player.
+     * @throws IllegalArgumentException if the index is out of range.
      */
-    private int calculateNumberOfConsecutives() {
-        int[] diceValues = createDiceValueArray();
-        Arrays.sort(diceValues);        
-        
-        int currentConsecutives = 1;
-        int maxConsecutives = 1;
-
-        for(int i = 1; i < diceValues.length; i++) {
-            if (diceValues[i] == diceValues[i - 1] + 1)
-                currentConsecutives++;
-            else if(diceValues[i] != diceValues[i - 1]) {
-                maxConsecutives = Math.max(maxConsecutives, currentConsecutives);
-                currentConsecutives = 1;
-            }
-        }
-
-        maxConsecutives = Math.max(maxConsecutives, currentConsecutives);
-        return maxConsecutives;
+    private Score getScoreAt(int i) {
+        return board.getScore(i);
     }
-
+    
     /**
-     * Calculates the score for a 'Small Straight'.
+     * Retrieves the score for all categories for a specific player.
      * 
-     * @return Score for 'Small Straight', 30 if valid, otherwise 0.
+     * @param i Index of the player.
+     * @return Array of scores for the player.
      */
-    private int calculateSmallStraight() {
-        int consecutives = calculateNumberOfConsecutives();
-        if(consecutives >= 4) 
-            return 30;
-        return 0;
+    public int[] getPlayerScore(int i) {
+        Score player = getScoreAt(i);
+        return player.getFieldValues();
     }
-
+    
     /**
-     * Calculates the score for a 'Large Straight'.
+     * Fills a caller-supplied array with the score for all categories for a specific player.
      * 
-     * @return Score for 'Large Straight', 40 if valid, otherwise 0.
+     * @param i Index of the player.
+     * @param scores Array of at least 18 elements that receives the scores.
+     * @return The given array.
      */
-    private int calculateLargeStraight() {
-        int consecutives = calculateNumberOfConsecutives();
-        if(consecutives == 5)
-            return 40;
-        return 0;
+    public int[] getPlayerScore(int i, int[] scores) {
+        return board.getFieldValues(i, scores);
     }
 
     /**
-     * Calculates the score for a 'Yahtzee'.
+     * Calculates the index of the current roll in the {@link ScoreTable}.
      * 
-     * @return Score for 'Yahtzee', 50 if all dice have the same value, otherwise 0.
+     * @return Index of the current roll.
      */
-    private int calculateYahtzee() {
-        int value = dice_1.getValue();
-        if((value == dice_2.getValue()) && (value == dice_3.getValue()) && (value == dice_4.getValue()) && (value == dice_5.getValue()))
-            return 50;
-        return 0;
+    private int getRollIndex() {
+        return ScoreTable.rollIndex(DiceState.getValue(diceState, 0), DiceState.getValue(diceState, 1), DiceState.getValue(diceState, 2), 
+                DiceState.getValue(diceState, 3), DiceState.getValue(diceState, 4));
     }
-
+    
     /**
-     * Calculates the score for 'Chance', which is the sum of all dice values.
+     * Calculates the score for all categories for a specific player and updates the player's score.
      * 
-     * @return Score for 'Chance'.
+     * @param playerIndex Index of the player whose score is to be calculated.
+     * @return Array of calculated scores.
      */
-    private int calculateChance() {
-        return dice_1.getValue() + dice_2.getValue() + dice_3.getValue() + dice_4.getValue() + dice_5.getValue();
+    public int[] calculateScore(int playerIndex) {
+        return calculateScore(playerIndex, new int[19]);
     }
     
     /**
-     * Calculates the score for all categories for a specific player and updates the player's score.
+     * Calculates the score for all categories for a specific player into a caller-supplied array
+     * and updates the player's score.
      * 
      * @param playerIndex Index of the player whose score is to be calculated.
-     * @return Array of calculated scores.
+     * @param scores Array of at least 19 elements that receives the calculated scores.
+     * @return The given array.
      */
-    public int[] calculateScore(int playerIndex) {
-        Score playerScore = getScoreAt(playerIndex);
+    public int[] calculateScore(int playerIndex, int[] scores) {
+        // The filled values are read from the board into the buffer, so no view of the row is created.
+        board.getFieldValues(playerIndex, scores);
     
-        int aces = playerScore.getAces();
-        int twos = playerScore.getTwos();
-        int threes = playerScore.getThrees(); 
-        int fours = playerScore.getFours();   
-        int fives = playerScore.getFives();    
-        int sixes = playerScore.getSixes();    
-        int threeOfAKind = playerScore.getThreeOfAKind(); 
-        int fourOfAKind = playerScore.getFourOfAKind();   
-        int fullHouse = playerScore.getFullHouse();       
-        int smallStraight = playerScore.getSmallStraight(); 
-        int largeStraight = playerScore.getLargeStraight(); 
-        int chance = playerScore.getChance();             
-        int yahtzee = playerScore.getYahtzee();           
-
-        int totalWithoutBonus = playerScore.getTotalWithoutBonus(); 
-        int bonus = playerScore.getBonus();                     
-        int finalUpperTotal = playerScore.getFinalUpperTotal();  
-        int finalLowerTotal = playerScore.getFinalLowerTotal();  
-        int finalTotal = playerScore.getFinalTotal();
+        int aces = scores[0];
+        int twos = scores[1];
+        int threes = scores[2]; 
+        int fours = scores[3];   
+        int fives = scores[4];    
+        int sixes = scores[5];    
+        int threeOfAKind = scores[9]; 
+        int fourOfAKind = scores[10];   
+        int fullHouse = scores[11];       
+        int smallStraight = scores[12]; 
+        int largeStraight = scores[13]; 
+        int chance = scores[15];             
+        int yahtzee = scores[14];           
+
+        int totalWithoutBonus = scores[6]; 
+        int bonus = scores[7];                     
+        int finalUpperTotal = scores[8];  
+        int finalLowerTotal = scores[16];  
+        int finalTotal = scores[17];
         
         if(totalWithoutBonus == -1) totalWithoutBonus = 0;
         if(bonus == -1) bonus = 0;
@@ -343,38 +199,54 @@ public class Logic {
         if(finalLowerTotal == -1) finalLowerTotal = 0;
         if(finalTotal == -1) finalTotal = 0;
             
-        if(aces == -1) aces = calculateAces();
-        if(twos == -1) twos = calculateTwos();
-        if(threes == -1) threes = calculateThrees();
-        if(fours == -1) fours = calculateFours();
-        if(fives == -1) fives = calculateFives();
-        if(sixes == -1) sixes = calculateSixes();
-
-        if(threeOfAKind == -1) threeOfAKind = calculateThreeOfAKind();
-        if(fourOfAKind == -1) fourOfAKind = calculateFourOfAKind();
-        if(fullHouse == -1) fullHouse = calculateFullHouse();
-        if(smallStraight == -1) smallStraight = calculateSmallStraight();
-        if(largeStraight == -1) largeStraight = calculateLargeStraight();
+        int roll = getRollIndex();
+        if(aces == -1) aces = ScoreTable.score(roll, ScoreTable.ACES);
+        if(twos == -1) twos = ScoreTable.score(roll, ScoreTable.TWOS);
+        if(threes == -1) threes = ScoreTable.score(roll, ScoreTable.THREES);
+        if(fours == -1) fours = ScoreTable.score(roll, ScoreTable.FOURS);
+        if(fives == -1) fives = ScoreTable.score(roll, ScoreTable.FIVES);
+        if(sixes == -1) sixes = ScoreTable.score(roll, ScoreTable.SIXES);
+
+        if(threeOfAKind == -1) threeOfAKind = ScoreTable.score(roll, ScoreTable.THREE_OF_A_KIND);
+        if(fourOfAKind == -1) fourOfAKind = ScoreTable.score(roll, ScoreTable.FOUR_OF_A_KIND);
+        if(fullHouse == -1) fullHouse = ScoreTable.score(roll, ScoreTable.FULL_HOUSE);
+        if(smallStraight == -1) smallStraight = ScoreTable.score(roll, ScoreTable.SMALL_STRAIGHT);
+        if(largeStraight == -1) largeStraight = ScoreTable.score(roll, ScoreTable.LARGE_STRAIGHT);
 
         int skip = -1;
         // If yahtzee is set to 0, it can't later changed
         if(yahtzee != 0) {
-            int yahtzeeCheck = calculateYahtzee();
+            int yahtzeeCheck = ScoreTable.score(roll, ScoreTable.YAHTZEE);
             if(yahtzeeCheck == 50) {
+                Score playerScore = getScoreAt(playerIndex);
                 playerScore.setYahtzee(yahtzeeCheck);
                 yahtzee = playerScore.getYahtzee();
                 skip = 1;
             } else if(yahtzee == -1) yahtzee = 0; 
         }
         
-        if(chance == -1) chance = calculateChance();
-
-        return new int[] {
-                aces, twos, threes, fours, fives, sixes,
-                totalWithoutBonus, bonus, finalUpperTotal,
-                threeOfAKind, fourOfAKind, fullHouse, smallStraight, largeStraight, yahtzee, chance,
-                finalLowerTotal, finalTotal, skip
-            };
+        if(chance == -1) chance = ScoreTable.score(roll, ScoreTable.CHANCE);
+
+        scores[0] = aces;
+        scores[1] = twos;
+        scores[2] = threes;
+        scores[3] = fours;
+        scores[4] = fives;
+        scores[5] = sixes;
+        scores[6] = totalWithoutBonus;
+        scores[7] = bonus;
+        scores[8] = finalUpperTotal;
+        scores[9] = threeOfAKind;
+        scores[10] = fourOfAKind;
+        scores[11] = fullHouse;
+        scores[12] = smallStraight;
+        scores[13] = largeStraight;
+        scores[14] = yahtzee;
+        scores[15] = chance;
+        scores[16] = finalLowerTotal;
+        scores[17] = finalTotal;
+        scores[18] = skip;
+        return scores;
     }
 
 	/**
@@ -436,16 +308,15 @@ public class Logic {
 	 * Each die's value is updated only if it has not been saved by the player.
 	 */
 	public void throwDices() {
-		if(!dice_1.getIsSaved())
-			dice_1.throwDice(); 
-		if(!dice_2.getIsSaved())
-			dice_2.throwDice(); 
-		if(!dice_3.getIsSaved())
-			dice_3.throwDice();
-		if(!dice_4.getIsSaved())
-			dice_4.throwDice();
-		if(!dice_5.getIsSaved())
-			dice_5.throwDice();
+		if(bulkThrows) {
+			diceState = DiceState.withUnsavedValues(diceState, roller.throwDices());
+			return;
+		}
+		for(int i = 0; i < DiceState.NUMBER_OF_DICES; i++)
+			if(!DiceState.isSaved(diceState, i)) {
+				roller.throwDice();
+				diceState = DiceState.withValue(diceState, i, roller.getValue());
+			}
 	} 
 
 	/**
@@ -454,13 +325,18 @@ public class Logic {
 	 * @return An array of integers representing the values of the five dice.
 	 */
 	public int[] getDices() {
-		int[] dicesValues = new int[5];
-		
-		dicesValues[0] = dice_1.getValue();
-		dicesValues[1] = dice_2.getValue();
-		dicesValues[2] = dice_3.getValue();
-		dicesValues[3] = dice_4.getValue();
-		dicesValues[4] = dice_5.getValue();
+		return getDices(new int[5]);
+	}
+
+	/**
+	 * Fills a caller-supplied array with the current values of all dice.
+	 * 
+	 * @param dicesValues Array of at least five elements that receives the dice values.
+	 * @return The given array.
+	 */
+	public int[] getDices(int[] dicesValues) {
+		for(int i = 0; i < DiceState.NUMBER_OF_DICES; i++)
+			dicesValues[i] = DiceState.getValue(diceState, i);
 		
 		return dicesValues;
 	}
@@ -472,33 +348,10 @@ public class Logic {
 	 * @param option String indicating whether to save or unsave the dice ("s" for save, other for unsave).
 	 */
 	public void processDices(int[] chosenDices, String option) {
-		for(int i = 0; i < 5; i++) {
-			if(option.equals("s")) {
-				if(chosenDices[i] != 0) {
-					if(chosenDices[i]  == 1) 
-						dice_1.setIsSaved(true);
-					else if(chosenDices[i] == 2) 
-						dice_2.setIsSaved(true);
-					else if(chosenDices[i] == 3) 
-						dice_3.setIsSaved(true);
-					else if(chosenDices[i] == 4)
-						dice_4.setIsSaved(true);
-					else dice_5.setIsSaved(true);
-				}
-			} else {
-				if(chosenDices[i] != 0) {
-					if(chosenDices[i] == 1)
-						dice_1.setIsSaved(false);
-					else if(chosenDices[i] == 2)
-						dice_2.setIsSaved(false);
-					else if(chosenDices[i] == 3)
-						dice_3.setIsSaved(false);
-					else if(chosenDices[i] == 4)
-						dice_4.setIsSaved(false);
-					else dice_5.setIsSaved(false);
-				}
-			}
-		}
+		boolean isSaved = option.equals("s");
+		for(int i = 0; i < 5; i++) 
+			if(chosenDices[i] != 0)
+				diceState = DiceState.withSaved(diceState, chosenDices[i] - 1, isSaved);
 	}
 
 	/**
@@ -509,15 +362,7 @@ public class Logic {
 	 * @throws IllegalArgumentException If the index is out of range.
 	 */
 	public boolean isDiceSaved(int index) {
-		if(index < 0 || index > 4) 
-			throw new IllegalArgumentException("Invalid input: Index out of range.");
-		
-		if(index == 0) return dice_1.getIsSaved();
-		else if(index == 1) return dice_2.getIsSaved();
-		else if(index == 2) return dice_3.getIsSaved();
-		else if(index == 3) return dice_4.getIsSaved();
-		else if(index == 4) return dice_5.getIsSaved();
-		return false;
+		return DiceState.isSaved(diceState, index);
 	}
 
 	/**
@@ -527,14 +372,7 @@ public class Logic {
 	 * @throws IllegalArgumentException If the index is out of range.
 	 */
 	public void saveDice(int index) {
-		if(index < 0 || index > 4) 
-			throw new IllegalArgumentException("Invalid input: Index out of range.");
-		
-		if(index == 0) dice_1.setIsSaved(true);
-		else if(index == 1)  dice_2.setIsSaved(true);
-		else if(index == 2)  dice_3.setIsSaved(true);
-		else if(index == 3)  dice_4.setIsSaved(true);
-		else if(index == 4) dice_5.setIsSaved(true); 
+		diceState = DiceState.withSaved(diceState, index, true);
 	}
 
 	/**
@@ -544,37 +382,105 @@ public class Logic {
 	 * @throws IllegalArgumentException If the index is out of range.
 	 */
 	public void unsaveDice(int index) {
-		if(index < 0 || index > 4) 
-			throw new IllegalArgumentException("Invalid input: Index out of range.");
-		
-		if(index == 0) dice_1.setIsSaved(false);
-		else if(index == 1)  dice_2.setIsSaved(false);
-		else if(index == 2)  dice_3.setIsSaved(false);
-		else if(index == 3)  dice_4.setIsSaved(false);
-		else if(index == 4) dice_5.setIsSaved(false);
+		diceState = DiceState.withSaved(diceState, index, false);
 	}
 
 	/**
 	 * Marks all dice as unsaved.
 	 */
 	public void unsaveDices() {
-		dice_1.setIsSaved(false); 
-		dice_2.setIsSaved(false); 
-		dice_3.setIsSaved(false);
-		dice_4.setIsSaved(false);
-		dice_5.setIsSaved(false);
+		diceState = DiceState.withoutSaved(diceState);
+	}
+
+	/**
+	 * Retrieves the saved dice as a bitmask.
+	 * 
+	 * @return The saved dice, bit i standing for die i.
+	 */
+	public int getSavedDices() {
+		return DiceState.getSavedMask(diceState);
+	}
+
+	/**
+	 * Marks exactly the dice of a bitmask as saved.
+	 * 
+	 * @param savedMask The dice to save, bit i standing for die i.
+	 */
+	public void setSavedDices(int savedMask) {
+		diceState = DiceState.withSavedMask(diceState, savedMask);
+	}
+
+	/**
+	 * Advises which dice a player should save before throwing again, using the {@link HoldAdvisor}.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @param rollsLeft Number of throws left in the turn (1-2).
+	 * @return The dice to save, bit i standing for die i; 31 means the dice should be scored now.
+	 */
+	public int getBestSavedDices(int playerIndex, int rollsLeft) {
+		return getBestSavedDices(playerIndex, rollsLeft, HoldAdvisor.getInstance());
+	}
+
+	/**
+	 * Advises which dice a player should save before throwing again, using a given advisor.
+	 * Threads playing games concurrently can each pass their own advisor to avoid sharing its cache.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @param rollsLeft Number of throws left in the turn (1-2).
+	 * @param advisor The advisor to ask.
+	 * @return The dice to save, bit i standing for die i; 31 means the dice should be scored now.
+	 */
+	public int getBestSavedDices(int playerIndex, int rollsLeft, HoldAdvisor advisor) {
+		return advisor.adviseHold(getRollIndex(), rollsLeft, getFilledCategories(playerIndex), board.getUpperSectionTotal(playerIndex));
+	}
+
+	/**
+	 * Gets the sum of the upper section fields a player has filled.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @return The upper section total so far.
+	 * @throws IllegalArgumentException if the index is out of range.
+	 */
+	public int getUpperSectionTotal(int playerIndex) {
+		return board.getUpperSectionTotal(playerIndex);
+	}
+
+	/**
+	 * Calculates the categories a player has filled.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @return Bitmask of the filled categories.
+	 */
+	private int getFilledCategories(int playerIndex) {
+		int emptyFields = board.getEmptyFieldsMask(playerIndex);
+		int filled = 0;
+		for(int category = 0; category < ScoreTable.NUMBER_OF_CATEGORIES; category++)
+			if((emptyFields & (1 << ScoreTable.fieldOfCategory(category))) == 0)
+				filled |= 1 << category;
+		return filled;
 	}
 
 	/**
 	 * Checks if the game is over by verifying if all players have filled all their fields.
+	 * The board counts the finished players as their fields are filled, so this is a single comparison.
 	 * 
 	 * @return True if the game is over, false otherwise.
 	 */
 	public boolean isGameOver() {
-		for(int i = 0; i < numberOfPlayers; i++) 
-			if(!getScoreAt(i).areFieldsFilled())
-				return false;
-		return true;     
+		return board.getFinishedCount() == numberOfPlayers;     
+	}
+
+	/**
+	 * Calculates the number of rounds every player has completed, that is the smallest number
+	 * of scoring fields, the six upper and seven lower section fields, filled by any player.
+	 * 
+	 * @return The number of completed rounds (0-13).
+	 */
+	public int getRound() {
+		int round = Integer.bitCount(SCORING_FIELDS);
+		for(int i = 0; i < numberOfPlayers; i++)
+			round = Math.min(round, Integer.bitCount(SCORING_FIELDS & ~getEmptyFieldsMask(i)));
+		return round;
 	}
 
 	/**
@@ -584,9 +490,7 @@ public class Logic {
 	 * @return True if the player is done, false otherwise.
 	 */
 	public boolean isPlayerDone(int playerIndex) {
-		if(getScoreAt(playerIndex).areFieldsFilled())
-			return true;
-		return false;     
+		return board.isFinished(playerIndex);     
 	}
 
 	/**
@@ -595,7 +499,7 @@ public class Logic {
 	 * @return Array of field names.
 	 */
 	public String[] getFieldNames() {
-		return table[0].getFieldNames();
+		return getScoreAt(0).getFieldNames();
 	}
 
 	/**
@@ -609,6 +513,30 @@ public class Logic {
 		return playerScore.emptyFields();
 	}
 
+	/**
+	 * Fills a caller-supplied array with the empty fields of a specific player.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @param emptyFields Array of at least 18 elements; 1 is written for every empty field, 0 otherwise.
+	 * @return The given array.
+	 */
+	public int[] getEmptyFields(int playerIndex, int[] emptyFields) {
+		int mask = board.getEmptyFieldsMask(playerIndex);
+		for (int i = 0; i < ScoreBoard.NUMBER_OF_FIELDS; i++)
+			emptyFields[i] = (mask >>> i) & 1;
+		return emptyFields;
+	}
+
+	/**
+	 * Gets the empty fields of a specific player as a bitmask.
+	 * 
+	 * @param playerIndex Index of the player.
+	 * @return Bitmask where bit i is set if field i is empty.
+	 */
+	public int getEmptyFieldsMask(int playerIndex) {
+		return board.getEmptyFieldsMask(playerIndex);
+	}
+
 	/**
 	 * Saves the score for a specific field and player.
 	 * 
@@ -660,26 +588,50 @@ public class Logic {
 	 *         Returns an empty string if no winners are found.
 	 */
 	public String getWinner() {
-		List<String> winners = new ArrayList<>();
-		int bestScore = -1;
+		int[] winners = getWinners();
+
+		String[] names = new String[winners.length];
+		for(int i = 0; i < winners.length; i++)
+			names[i] = getScoreAt(winners[i]).getPlayer();
+		return String.join(", ", names);
+	}
 
-		for(int i = 0; i < numberOfPlayers; i++) {
-			Score playerScore = getScoreAt(i);
-			int currentScore = playerScore.getFinalTotal();
+	/**
+	 * Finds the players with the highest final score; more than one if they are tied.
+	 * 
+	 * @return The indices of the winners in player order.
+	 */
+	public int[] getWinners() {
+		return board.rowsWithValue(FINAL_TOTAL, board.max(FINAL_TOTAL));
+	}
 
-			if(currentScore > bestScore) {
-				bestScore = currentScore;
-				winners.clear(); 
-				winners.add(playerScore.getPlayer());
-			} 
-			else if (currentScore == bestScore) {
-				winners.add(playerScore.getPlayer());
-			}
-		}
+	/**
+	 * Selects the players with the highest final scores, see {@link Ranking#topK(int[], int, int)}.
+	 * 
+	 * @param k Number of players to select.
+	 * @return The indices of at most k players, best first; tied players keep their order in the game.
+	 */
+	public int[] getTopPlayers(int k) {
+		return Ranking.topK(getFinalTotals(new int[numberOfPlayers]), numberOfPlayers, k);
+	}
 
-		if(!winners.isEmpty()) 
-			return String.join(", ", winners); 
-		return "";
+	/**
+	 * Calculates the rank of every player by final score, see {@link Ranking#ranks(int[], int)}.
+	 * 
+	 * @return The rank of every player, 1 for the best; tied players share a rank.
+	 */
+	public int[] getRanks() {
+		return Ranking.ranks(getFinalTotals(new int[numberOfPlayers]), numberOfPlayers);
+	}
+
+	/**
+	 * Fills a caller-supplied array with the final total of every player.
+	 * 
+	 * @param totals Array of at least as many elements as there are players; -1 is written for unfinished players.
+	 * @return The given array.
+	 */
+	public int[] getFinalTotals(int[] totals) {
+		return board.getColumn(FINAL_TOTAL, totals);
 	}
 
 	/**
@@ -720,40 +672,27 @@ public class Logic {
 
 	/**
 	 * Determines the index of the best field to score based on the current empty fields and scores.
-	 * The function excludes certain fields that cannot be changed and selects the field with the highest score.
+	 * The field is chosen by the optimal {@link Strategy} for the current dice, which maximizes
+	 * the expected final score instead of the score of this turn.
 	 * 
 	 * @param emptyFields An array indicating which fields are available for scoring.
 	 * @param scores An array containing scores for each field.
-	 * @return The index of the field with the highest score among the available fields.
+	 * @return The index of the field that maximizes the expected final score.
 	 */
 	public int getBestIndex(int[] emptyFields, int[] scores) {
-		int[] unchangeableFields = new int[]{6, 7, 8, 16, 17}; 
-		int[] validIndexes = new int[emptyFields.length];
-		int count = 0;
-
-		for(int i = 0; i < emptyFields.length; i++) {
-			if(emptyFields[i] == 1) {
-				for(int unchangeableField : unchangeableFields) {
-					if(i != unchangeableField) {
-						validIndexes[count] = i;
-						count++;
-						break;
-					}
-				}
+		int filled = 0;
+		int upper = 0;
+
+		for(int category = 0; category < ScoreTable.NUMBER_OF_CATEGORIES; category++) {
+			int field = ScoreTable.fieldOfCategory(category);
+			if(emptyFields[field] == 0) {
+				filled |= 1 << category;
+				if(category <= ScoreTable.SIXES)
+					upper += scores[field];
 			}
 		}
 
-		validIndexes = Arrays.copyOf(validIndexes, count);
-
-		int maxIndex = validIndexes[0];
-		int maxValue = scores[validIndexes[0]];
-
-		for(int i = 1; i < validIndexes.length; i++) 
-			if(scores[validIndexes[i]] > maxValue) {
-				maxValue = scores[validIndexes[i]];
-				maxIndex = validIndexes[i];
-			}
-
-		return maxIndex;
+		int category = Strategy.getInstance().getBestCategory(filled, upper, getRollIndex());
+		return ScoreTable.fieldOfCategory(category);
 	}
 }
@@ -0,0 +1,179 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Ranks players by score using only primitive arrays of player indices.
+ *
+ * Higher scores rank first. Players with equal scores share a rank, and the next rank skips
+ * the tied places, so the scores 250, 240, 240 and 230 have the ranks 1, 2, 2 and 4. Where
+ * players must be put in order, tied players keep their order in the game.
+ */
+public final class Ranking {
+    // Private constructor to prevent instantiation.
+    private Ranking() {}
+
+    /**
+     * Selects the best players with a bounded heap, in O(n log k) time and O(k) extra space.
+     *
+     * @param scores Score of every player.
+     * @param count Number of players, the first elements of the scores array.
+     * @param k Number of players to select; at most the number of players is returned.
+     * @return The indices of the best players, best first.
+     * @throws IllegalArgumentException if the number of players or k is negative.
+     */
+    public static int[] topK(int[] scores, int count, int k) {
+        if(count < 0 || count > scores.length)
+            throw new IllegalArgumentException("Invalid input: Number of players out of range.");
+        if(k < 0)
+            throw new IllegalArgumentException("Invalid input: k cannot be negative.");
+        k = Math.min(k, count);
+        if(k == 0)
+            return new int[0];
+
+        // Min-heap with the worst selected player at the root.
+        int[] heap = new int[k];
+        int size = 0;
+        for(int player = 0; player < count; player++) {
+            if(size < k) {
+                heap[size] = player;
+                siftUp(heap, size++, scores);
+            } else if(ranksBefore(player, heap[0], scores)) {
+                heap[0] = player;
+                siftDown(heap, k, scores);
+            }
+        }
+
+        int[] top = new int[k];
+        for(int i = k - 1; i >= 0; i--) {
+            top[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, size, scores);
+        }
+        return top;
+    }
+
+    /**
+     * Calculates the rank of every player. Scores within a range not much larger than the number
+     * of players are counted in O(n) time; otherwise the players are sorted in O(n log n).
+     *
+     * @param scores Score of every player.
+     * @param count Number of players, the first elements of the scores array.
+     * @return The rank of every player, 1 for the best.
+     * @throws IllegalArgumentException if the number of players is out of range.
+     */
+    public static int[] ranks(int[] scores, int count) {
+        if(count < 0 || count > scores.length)
+            throw new IllegalArgumentException("Invalid input: Number of players out of range.");
+        int[] ranks = new int[count];
+        if(count == 0)
+            return ranks;
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for(int player = 0; player < count; player++) {
+            min = Math.min(min, scores[player]);
+            max = Math.max(max, scores[player]);
+        }
+
+        long range = (long) max - min + 1;
+        if(range <= 4L * count + 1024) {
+            // better[v] ends up as the number of players scoring more than min + v.
+            int[] better = new int[(int) range + 1];
+            for(int player = 0; player < count; player++)
+                better[scores[player] - min]++;
+            for(int value = (int) range - 1; value >= 0; value--)
+                better[value] += better[value + 1];
+            for(int player = 0; player < count; player++)
+                ranks[player] = better[scores[player] - min + 1] + 1;
+        } else {
+            // Sort the players by descending score, packed with their index into longs.
+            long[] order = new long[count];
+            for(int player = 0; player < count; player++)
+                order[player] = (-(long) scores[player] << 32) | player;
+            Arrays.sort(order);
+            for(int i = 0; i < count; i++) {
+                int player = (int) order[i];
+                int previous = i == 0 ? -1 : (int) order[i - 1];
+                ranks[player] = i > 0 && scores[previous] == scores[player] ? ranks[previous] : i + 1;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Counts the players sharing a rank with a player.
+     *
+     * @param scores Score of every player.
+     * @param count Number of players, the first elements of the scores array.
+     * @param player Index of the player.
+     * @return The number of other players with the same score.
+     * @throws IllegalArgumentException if the player index is out of range.
+     */
+    public static int countTies(int[] scores, int count, int player) {
+        if(player < 0 || player >= count)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        int ties = -1;
+        for(int other = 0; other < count; other++)
+            if(scores[other] == scores[player])
+                ties++;
+        return ties;
+    }
+
+    /**
+     * Checks if a player is put before another: a higher score, or an equal score and an earlier place in the game.
+     *
+     * @param a Index of the first player.
+     * @param b Index of the second player.
+     * @param scores Score of every player.
+     * @return True if the first player is put before the second.
+     */
+    private static boolean ranksBefore(int a, int b, int[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    /**
+     * Moves a heap element towards the root while its parent ranks before it.
+     *
+     * @param heap The heap of player indices.
+     * @param i Position of the element.
+     * @param scores Score of every player.
+     */
+    private static void siftUp(int[] heap, int i, int[] scores) {
+        int player = heap[i];
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            if(!ranksBefore(heap[parent], player, scores))
+                break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = player;
+    }
+
+    /**
+     * Moves the root of a heap down until it ranks after both children.
+     *
+     * @param heap The heap of player indices.
+     * @param size Number of elements in the heap.
+     * @param scores Score of every player.
+     */
+    private static void siftDown(int[] heap, int size, int[] scores) {
+        if(size == 0)
+            return;
+        int player = heap[0];
+        int i = 0;
+        while(true) {
+            int child = 2 * i + 1;
+            if(child >= size)
+                break;
+            if(child + 1 < size && ranksBefore(heap[child], heap[child + 1], scores))
+                child++;
+            if(!ranksBefore(player, heap[child], scores))
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = player;
+    }
+}
@@ -0,0 +1,171 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Holds the precomputed score of every category for every possible roll of five dice.
+ *
+ * A roll is identified by its index, which is the dice values read as a base-6 number
+ * (the first die is the least significant digit). The table is built once when the class
+ * is loaded, so scoring a roll is a single array read and does not allocate.
+ */
+public final class ScoreTable {
+    /**
+     * Number of scoring categories a player can choose from.
+     */
+    public static final int NUMBER_OF_CATEGORIES = 13;
+
+    /**
+     * Number of different ordered rolls of five dice.
+     */
+    public static final int NUMBER_OF_ROLLS = 7776;
+
+    public static final int ACES = 0;
+    public static final int TWOS = 1;
+    public static final int THREES = 2;
+    public static final int FOURS = 3;
+    public static final int FIVES = 4;
+    public static final int SIXES = 5;
+    public static final int THREE_OF_A_KIND = 6;
+    public static final int FOUR_OF_A_KIND = 7;
+    public static final int FULL_HOUSE = 8;
+    public static final int SMALL_STRAIGHT = 9;
+    public static final int LARGE_STRAIGHT = 10;
+    public static final int YAHTZEE = 11;
+    public static final int CHANCE = 12;
+
+    /**
+     * Score table field index of every category, in category order.
+     */
+    private static final int[] CATEGORY_FIELDS = {0, 1, 2, 3, 4, 5, 9, 10, 11, 12, 13, 14, 15};
+
+    /**
+     * Category of every score table field, or -1 for the automatically calculated fields.
+     */
+    private static final int[] FIELD_CATEGORIES = {0, 1, 2, 3, 4, 5, -1, -1, -1, 6, 7, 8, 9, 10, 11, 12, -1, -1};
+
+    /**
+     * Scores of all categories, stored roll after roll.
+     */
+    private static final byte[] SCORES = buildScores();
+
+    // Private constructor to prevent instantiation.
+    private ScoreTable() {}
+
+    /**
+     * Returns the score a roll is worth in a category.
+     *
+     * @param rollIndex Index of the roll, see {@link #rollIndex(int, int, int, int, int)}.
+     * @param category Index of the category (0-12).
+     * @return The score of the category for the roll.
+     */
+    public static int score(int rollIndex, int category) {
+        return SCORES[rollIndex * NUMBER_OF_CATEGORIES + category];
+    }
+
+    /**
+     * Calculates the index of a roll from the values of its dice.
+     *
+     * @param d1 Value of the first die (1-6).
+     * @param d2 Value of the second die (1-6).
+     * @param d3 Value of the third die (1-6).
+     * @param d4 Value of the fourth die (1-6).
+     * @param d5 Value of the fifth die (1-6).
+     * @return The index of the roll (0-7775).
+     */
+    public static int rollIndex(int d1, int d2, int d3, int d4, int d5) {
+        return (d1 - 1) + 6 * ((d2 - 1) + 6 * ((d3 - 1) + 6 * ((d4 - 1) + 6 * (d5 - 1))));
+    }
+
+    /**
+     * Calculates the index of a roll from an array of dice values.
+     *
+     * @param dices Array of the five dice values (1-6).
+     * @return The index of the roll (0-7775).
+     * @throws IllegalArgumentException if the array does not hold five valid dice values.
+     */
+    public static int rollIndex(int[] dices) {
+        if(dices.length != 5)
+            throw new IllegalArgumentException("Invalid input: A roll must consist of 5 dices.");
+        for(int dice : dices)
+            if(dice < 1 || dice > 6)
+                throw new IllegalArgumentException("Invalid value: must be between 1 and 6.");
+        return rollIndex(dices[0], dices[1], dices[2], dices[3], dices[4]);
+    }
+
+    /**
+     * Returns the score table field index of a category.
+     *
+     * @param category Index of the category (0-12).
+     * @return The field index used by {@link Logic} and the score table.
+     */
+    public static int fieldOfCategory(int category) { return CATEGORY_FIELDS[category]; }
+
+    /**
+     * Returns the category of a score table field.
+     *
+     * @param field Index of the field (0-17).
+     * @return The index of the category, or -1 if the field is calculated automatically.
+     */
+    public static int categoryOfField(int field) { return FIELD_CATEGORIES[field]; }
+
+    /**
+     * Builds the scores of all categories for every roll.
+     *
+     * @return Array of scores, {@link #NUMBER_OF_CATEGORIES} entries per roll.
+     */
+    private static byte[] buildScores() {
+        byte[] scores = new byte[NUMBER_OF_ROLLS * NUMBER_OF_CATEGORIES];
+        int[] counts = new int[6];
+
+        for(int roll = 0; roll < NUMBER_OF_ROLLS; roll++) {
+            Arrays.fill(counts, 0);
+            int sum = 0;
+            for(int i = 0, rest = roll; i < 5; i++, rest /= 6) {
+                counts[rest % 6]++;
+                sum += rest % 6 + 1;
+            }
+
+            int offset = roll * NUMBER_OF_CATEGORIES;
+            for(int face = 0; face < 6; face++)
+                scores[offset + face] = (byte) ((face + 1) * counts[face]);
+
+            int maxCount = 0;
+            int pairs = 0;
+            for(int count : counts) {
+                maxCount = Math.max(maxCount, count);
+                if(count == 2) pairs++;
+            }
+
+            scores[offset + THREE_OF_A_KIND] = (byte) (maxCount >= 3 ? sum : 0);
+            scores[offset + FOUR_OF_A_KIND] = (byte) (maxCount >= 4 ? sum : 0);
+            scores[offset + FULL_HOUSE] = (byte) (maxCount == 3 && pairs == 1 ? 25 : 0);
+
+            int consecutives = calculateNumberOfConsecutives(counts);
+            scores[offset + SMALL_STRAIGHT] = (byte) (consecutives >= 4 ? 30 : 0);
+            scores[offset + LARGE_STRAIGHT] = (byte) (consecutives == 5 ? 40 : 0);
+            scores[offset + YAHTZEE] = (byte) (maxCount == 5 ? 50 : 0);
+            scores[offset + CHANCE] = (byte) sum;
+        }
+        return scores;
+    }
+
+    /**
+     * Calculates the longest run of consecutive dice values.
+     *
+     * @param counts Array of counts for dice values (1-6).
+     * @return The maximum number of consecutive dice values.
+     */
+    private static int calculateNumberOfConsecutives(int[] counts) {
+        int currentConsecutives = 0;
+        int maxConsecutives = 0;
+
+        for(int count : counts) {
+            if(count > 0) {
+                currentConsecutives++;
+                maxConsecutives = Math.max(maxConsecutives, currentConsecutives);
+            } else currentConsecutives = 0;
+        }
+        return maxConsecutives;
+    }
+}
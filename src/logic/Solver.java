@@ -0,0 +1,172 @@
+package logic;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the optimal strategy for solitaire Yahtzee by dynamic programming.
+ *
+ * Game states are solved from the last turn backwards: a state with every category filled
+ * is worth nothing, and every other state is worth the expected value of its next turn,
+ * played optimally given the already known values of the states it can lead to. States
+ * whose upper section total cannot be reached with their filled categories are skipped.
+ *
+ * Every turn fills one category, so the states with the same number of filled categories
+ * only depend on the level above them. The solver works through the levels one by one and
+ * spreads each level over a {@link ForkJoinPool}, giving every worker its own evaluator.
+ */
+public class Solver {
+    /**
+     * Number of filled category sets a task solves without splitting further.
+     */
+    private static final int TASK_THRESHOLD = 8;
+
+    private final int parallelism;
+
+    /**
+     * Default constructor using every available processor.
+     */
+    public Solver() { this(Runtime.getRuntime().availableProcessors()); }
+
+    /**
+     * Constructor using a specified number of worker threads.
+     *
+     * @param parallelism1 Number of worker threads.
+     * @throws IllegalArgumentException if the number of threads is less than one.
+     */
+    public Solver(int parallelism1) {
+        if(parallelism1 < 1)
+            throw new IllegalArgumentException("Invalid input: The number of threads must be at least 1.");
+        parallelism = parallelism1;
+    }
+
+    /**
+     * Returns the number of worker threads the solver uses.
+     *
+     * @return Number of worker threads.
+     */
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * Solves every game state.
+     *
+     * @return The optimal strategy.
+     */
+    public Strategy solve() {
+        float[] values = new float[Strategy.NUMBER_OF_STATES];
+        FloatBuffer buffer = FloatBuffer.wrap(values);
+        boolean[] reachable = calculateReachableUpperTotals();
+        int[][] levels = groupByFilledCount();
+        ThreadLocal<TurnEvaluator> evaluators = ThreadLocal.withInitial(TurnEvaluator::new);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for(int level = ScoreTable.NUMBER_OF_CATEGORIES - 1; level >= 0; level--)
+                pool.invoke(new LevelTask(values, buffer, reachable, evaluators, levels[level], 0, levels[level].length));
+        } finally {
+            pool.shutdown();
+        }
+
+        return new Strategy(buffer);
+    }
+
+    /**
+     * Solves a range of filled category sets of one level, splitting it while it is large.
+     */
+    private static class LevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float[] values;
+        private final FloatBuffer buffer;
+        private final boolean[] reachable;
+        private final ThreadLocal<TurnEvaluator> evaluators;
+        private final int[] filledSets;
+        private final int from;
+        private final int to;
+
+        LevelTask(float[] values, FloatBuffer buffer, boolean[] reachable, ThreadLocal<TurnEvaluator> evaluators,
+                int[] filledSets, int from, int to) {
+            this.values = values;
+            this.buffer = buffer;
+            this.reachable = reachable;
+            this.evaluators = evaluators;
+            this.filledSets = filledSets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from > TASK_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LevelTask(values, buffer, reachable, evaluators, filledSets, from, middle),
+                          new LevelTask(values, buffer, reachable, evaluators, filledSets, middle, to));
+                return;
+            }
+
+            TurnEvaluator evaluator = evaluators.get();
+            for(int i = from; i < to; i++) {
+                int filled = filledSets[i];
+                for(int upper = 0; upper <= Strategy.UPPER_BONUS_THRESHOLD; upper++)
+                    if(reachable[upperIndex(filled, upper)])
+                        values[Strategy.stateIndex(filled, upper)] = (float) evaluator.evaluate(buffer, filled, upper);
+            }
+        }
+    }
+
+    /**
+     * Groups the sets of filled categories by the number of filled categories, leaving out
+     * the set with every category filled.
+     *
+     * @return Array of filled category sets for every number of filled categories (0-12).
+     */
+    private static int[][] groupByFilledCount() {
+        int[][] levels = new int[ScoreTable.NUMBER_OF_CATEGORIES][];
+        int[] sizes = new int[ScoreTable.NUMBER_OF_CATEGORIES];
+        for(int filled = 0; filled < Strategy.ALL_CATEGORIES; filled++)
+            sizes[Integer.bitCount(filled)]++;
+        for(int level = 0; level < levels.length; level++)
+            levels[level] = new int[sizes[level]];
+
+        int[] counts = new int[ScoreTable.NUMBER_OF_CATEGORIES];
+        for(int filled = 0; filled < Strategy.ALL_CATEGORIES; filled++) {
+            int level = Integer.bitCount(filled);
+            levels[level][counts[level]++] = filled;
+        }
+        return levels;
+    }
+
+    /**
+     * Calculates which upper section totals can be reached with every set of filled upper categories.
+     *
+     * @return Array indexed by {@link #upperIndex(int, int)}; true if the total is reachable.
+     */
+    static boolean[] calculateReachableUpperTotals() {
+        int limit = Strategy.UPPER_BONUS_THRESHOLD + 1;
+        boolean[] reachable = new boolean[64 * limit];
+        reachable[0] = true;
+
+        for(int upperFilled = 0; upperFilled < 64; upperFilled++)
+            for(int upper = 0; upper < limit; upper++)
+                if(reachable[upperFilled * limit + upper])
+                    for(int category = 0; category <= ScoreTable.SIXES; category++)
+                        if((upperFilled & (1 << category)) == 0)
+                            for(int count = 0; count <= 5; count++) {
+                                int next = Math.min(Strategy.UPPER_BONUS_THRESHOLD, upper + (category + 1) * count);
+                                reachable[(upperFilled | (1 << category)) * limit + next] = true;
+                            }
+        return reachable;
+    }
+
+    /**
+     * Calculates the position of a game state in the array of reachable upper totals.
+     *
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total, capped at 63.
+     * @return The index in the array.
+     */
+    static int upperIndex(int filled, int upper) {
+        return (filled & 0b111111) * (Strategy.UPPER_BONUS_THRESHOLD + 1) + upper;
+    }
+}
@@ -0,0 +1,180 @@
+package logic;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The optimal strategy for solitaire Yahtzee, stored as the expected final score gained
+ * from every game state under optimal play.
+ *
+ * A game state between two turns is the set of filled categories together with the upper
+ * section total, capped at the 63 points needed for the bonus. Choosing the category for a
+ * roll only needs the expected values of the reachable next states, so it is a lookup of
+ * at most 13 table entries.
+ */
+public final class Strategy {
+    /**
+     * Upper section total needed for the bonus.
+     */
+    public static final int UPPER_BONUS_THRESHOLD = 63;
+
+    /**
+     * Points awarded for reaching the upper section bonus.
+     */
+    public static final int UPPER_BONUS = 35;
+
+    /**
+     * Bitmask with every category filled.
+     */
+    public static final int ALL_CATEGORIES = (1 << ScoreTable.NUMBER_OF_CATEGORIES) - 1;
+
+    /**
+     * Number of game states in the table.
+     */
+    public static final int NUMBER_OF_STATES = (ALL_CATEGORIES + 1) * (UPPER_BONUS_THRESHOLD + 1);
+
+    /**
+     * Path of the strategy file shared by all games.
+     */
+    public static final Path DEFAULT_FILE = Paths.get("strategy/optimal.bin");
+
+    private static volatile Strategy instance;
+
+    private final FloatBuffer values;
+
+    /**
+     * Constructor wrapping a table of expected values.
+     *
+     * @param values1 Expected value of every game state, see {@link #stateIndex(int, int)}.
+     * @throws IllegalArgumentException if the table does not hold every game state.
+     */
+    public Strategy(FloatBuffer values1) {
+        if(values1.limit() != NUMBER_OF_STATES)
+            throw new IllegalArgumentException("Invalid input: The strategy table must hold " + NUMBER_OF_STATES + " states.");
+        values = values1;
+    }
+
+    /**
+     * Returns the shared optimal strategy. On first use it is mapped from {@link #DEFAULT_FILE};
+     * if the file is missing or invalid, the strategy is solved and the file is written.
+     *
+     * The strategy is asked for on every turn, so once it is loaded it is returned without
+     * locking; only the first calls synchronize.
+     *
+     * @return The optimal strategy.
+     */
+    public static Strategy getInstance() {
+        Strategy strategy = instance;
+        if(strategy == null)
+            synchronized(Strategy.class) {
+                if(instance == null)
+                    instance = load(DEFAULT_FILE);
+                strategy = instance;
+            }
+        return strategy;
+    }
+
+    /**
+     * Maps a strategy file, solving the strategy and writing the file if it cannot be read.
+     *
+     * @param filePath The path of the strategy file.
+     * @return The optimal strategy.
+     */
+    private static Strategy load(Path filePath) {
+        if(Files.exists(filePath)) {
+            try {
+                return StrategyFile.map(filePath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        Strategy strategy = new Solver().solve();
+        try {
+            StrategyFile.write(strategy, filePath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return strategy;
+    }
+
+    /**
+     * Calculates the position of a game state in the table.
+     *
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total, capped at 63.
+     * @return The index of the game state.
+     */
+    public static int stateIndex(int filled, int upper) {
+        return filled * (UPPER_BONUS_THRESHOLD + 1) + upper;
+    }
+
+    /**
+     * Returns the table of expected values.
+     *
+     * @return A read-only view of the expected values.
+     */
+    public FloatBuffer getValues() { return values.asReadOnlyBuffer(); }
+
+    /**
+     * Returns the expected score still to be gained from a game state under optimal play.
+     *
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total; totals above 63 are capped.
+     * @return The expected score of the remaining turns.
+     */
+    public double getExpectedValue(int filled, int upper) {
+        return values.get(stateIndex(filled, Math.min(upper, UPPER_BONUS_THRESHOLD)));
+    }
+
+    /**
+     * Chooses the category that maximizes the expected final score for a roll.
+     *
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total; totals above 63 are capped.
+     * @param orderedRoll Index of the roll, see {@link ScoreTable#rollIndex(int, int, int, int, int)}.
+     * @return The index of the best category.
+     * @throws IllegalArgumentException if every category is filled.
+     */
+    public int getBestCategory(int filled, int upper, int orderedRoll) {
+        if(filled == ALL_CATEGORIES)
+            throw new IllegalArgumentException("Invalid input: Every category is already filled.");
+        upper = Math.min(upper, UPPER_BONUS_THRESHOLD);
+
+        int bestCategory = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for(int category = 0; category < ScoreTable.NUMBER_OF_CATEGORIES; category++)
+            if((filled & (1 << category)) == 0) {
+                double value = TurnEvaluator.categoryValue(values, filled, upper, orderedRoll, category);
+                if(value > bestValue) {
+                    bestValue = value;
+                    bestCategory = category;
+                }
+            }
+        return bestCategory;
+    }
+
+    /**
+     * Picks the held dice whose keep has the highest expected value. On ties, holding
+     * every die wins, so a roll that cannot be improved is kept as it is.
+     *
+     * @param keepValues Expected value of every keep.
+     * @param orderedRoll Index of the roll.
+     * @return The dice to hold, bit i standing for die i.
+     */
+    static int bestSavedMask(double[] keepValues, int orderedRoll) {
+        int bestMask = 0b11111;
+        double bestValue = keepValues[DiceCombinations.keepOfOrderedRoll(orderedRoll, bestMask)];
+        for(int savedMask = bestMask - 1; savedMask >= 0; savedMask--) {
+            double value = keepValues[DiceCombinations.keepOfOrderedRoll(orderedRoll, savedMask)];
+            if(value > bestValue) {
+                bestValue = value;
+                bestMask = savedMask;
+            }
+        }
+        return bestMask;
+    }
+}
@@ -0,0 +1,125 @@
+package logic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+/**
+ * Reads and writes the optimal strategy in a versioned binary file.
+ *
+ * The file starts with a 32-byte header: the magic number "YZST", the format version,
+ * the number of categories, the upper bonus threshold and the number of states, each a
+ * big-endian int, followed by padding. The expected value of every state follows as a
+ * little-endian float in the order of {@link Strategy#stateIndex(int, int)}. Only expected
+ * values are stored; the category and hold decisions are derived from them on demand.
+ *
+ * A loaded file is memory-mapped read-only rather than copied onto the heap, so the
+ * operating system pages it in lazily and shares it between all processes reading it.
+ */
+public final class StrategyFile {
+    /**
+     * Magic number at the start of every strategy file.
+     */
+    public static final int MAGIC = 0x595A5354;
+
+    /**
+     * Current version of the file format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
+    // Private constructor to prevent instantiation.
+    private StrategyFile() {}
+
+    /**
+     * Writes a strategy to a file. The file is written next to its destination first and
+     * then moved into place, so readers never see a partially written file.
+     *
+     * @param strategy The strategy to write.
+     * @param filePath The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Strategy strategy, Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary;
+        // Temporary files are only readable by their owner; the strategy is shared by the games of all users.
+        if(directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            temporary = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp",
+                PosixFilePermissions.asFileAttribute(FILE_PERMISSIONS));
+            Files.setPosixFilePermissions(temporary, FILE_PERMISSIONS);
+        } else temporary = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+
+        try {
+            try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putInt(ScoreTable.NUMBER_OF_CATEGORIES)
+                      .putInt(Strategy.UPPER_BONUS_THRESHOLD).putInt(Strategy.NUMBER_OF_STATES);
+                header.clear();
+                writeFully(channel, header);
+
+                ByteBuffer body = ByteBuffer.allocate(Strategy.NUMBER_OF_STATES * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                body.asFloatBuffer().put(strategy.getValues());
+                writeFully(channel, body);
+            }
+            Files.move(temporary, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a strategy file into memory.
+     *
+     * @param filePath The path of the file.
+     * @return The strategy, reading its expected values from the mapped file.
+     * @throws IOException If the file cannot be read or is not a valid strategy file.
+     */
+    public static Strategy map(Path filePath) throws IOException {
+        try(FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long expectedSize = HEADER_SIZE + (long) Strategy.NUMBER_OF_STATES * Float.BYTES;
+            if(channel.size() != expectedSize)
+                throw new IOException("Invalid strategy file: expected " + expectedSize + " bytes but found " + channel.size() + ".");
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+            if(mapped.getInt(0) != MAGIC)
+                throw new IOException("Invalid strategy file: wrong magic number.");
+            if(mapped.getInt(4) != VERSION)
+                throw new IOException("Unsupported strategy file version: " + mapped.getInt(4) + ".");
+            if(mapped.getInt(8) != ScoreTable.NUMBER_OF_CATEGORIES || mapped.getInt(12) != Strategy.UPPER_BONUS_THRESHOLD
+                    || mapped.getInt(16) != Strategy.NUMBER_OF_STATES)
+                throw new IOException("Invalid strategy file: the table does not match the game rules.");
+
+            FloatBuffer values = mapped.position(HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            return new Strategy(values);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer to a channel.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The bytes to write.
+     * @throws IOException If writing fails.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+    }
+}
@@ -0,0 +1,106 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Holds the probability of reaching every roll from every keep when the dice that are not
+ * kept are thrown again.
+ *
+ * The table is a sparse matrix in compressed row form: the outcomes of keep k are stored
+ * from {@link #OUTCOME_STARTS}[k] up to OUTCOME_STARTS[k + 1], each as the index of the roll
+ * reached and its probability. Of the 462 x 252 entries only the 4368 possible outcomes are
+ * stored. The table is built once when the class is loaded and never modified afterwards,
+ * so it is shared by all threads without locking.
+ */
+public final class TransitionTable {
+    /**
+     * Start of the outcomes of every keep.
+     */
+    static final int[] OUTCOME_STARTS = new int[DiceCombinations.NUMBER_OF_KEEPS + 1];
+
+    /**
+     * Roll reached by every outcome.
+     */
+    static final short[] OUTCOME_ROLLS;
+
+    /**
+     * Probability of every outcome.
+     */
+    static final double[] OUTCOME_PROBABILITIES;
+
+    static {
+        short[] rolls = new short[DiceCombinations.NUMBER_OF_KEEPS * DiceCombinations.NUMBER_OF_ROLLS];
+        double[] probabilities = new double[rolls.length];
+        double[] distribution = new double[DiceCombinations.NUMBER_OF_ROLLS];
+        int count = 0;
+
+        for(int keep = 0; keep < DiceCombinations.NUMBER_OF_KEEPS; keep++) {
+            OUTCOME_STARTS[keep] = count;
+            int rerolled = 5 - DiceCombinations.KEEP_SIZES[keep];
+            int outcomes = DiceCombinations.POWERS_OF_SIX[rerolled];
+            Arrays.fill(distribution, 0);
+
+            for(int outcome = 0; outcome < outcomes; outcome++) {
+                int key = DiceCombinations.KEEP_KEYS[keep];
+                for(int i = 0, rest = outcome; i < rerolled; i++, rest /= 6)
+                    key += DiceCombinations.POWERS_OF_SIX[rest % 6];
+                distribution[DiceCombinations.KEEP_ROLLS[DiceCombinations.keepOfKey(key)]] += 1.0 / outcomes;
+            }
+
+            for(int roll = 0; roll < DiceCombinations.NUMBER_OF_ROLLS; roll++)
+                if(distribution[roll] > 0) {
+                    rolls[count] = (short) roll;
+                    probabilities[count] = distribution[roll];
+                    count++;
+                }
+        }
+        OUTCOME_STARTS[DiceCombinations.NUMBER_OF_KEEPS] = count;
+        OUTCOME_ROLLS = Arrays.copyOf(rolls, count);
+        OUTCOME_PROBABILITIES = Arrays.copyOf(probabilities, count);
+    }
+
+    // Private constructor to prevent instantiation.
+    private TransitionTable() {}
+
+    /**
+     * Returns the number of non-zero entries of the table.
+     *
+     * @return The number of stored outcomes.
+     */
+    public static int getNumberOfOutcomes() { return OUTCOME_ROLLS.length; }
+
+    /**
+     * Calculates the probability of reaching a roll by holding some dice and throwing the others once.
+     *
+     * @param orderedRoll Index of the current roll, see {@link ScoreTable#rollIndex(int, int, int, int, int)}.
+     * @param savedMask The dice held, bit i standing for die i.
+     * @param targetRoll Index of any ordered roll with the dice values to reach; the order of the dice does not matter.
+     * @return The probability of reaching the target values.
+     */
+    public static double getProbability(int orderedRoll, int savedMask, int targetRoll) {
+        int keep = DiceCombinations.keepOfOrderedRoll(orderedRoll, savedMask);
+        int target = DiceCombinations.rollOfOrderedRoll(targetRoll);
+        for(int i = OUTCOME_STARTS[keep]; i < OUTCOME_STARTS[keep + 1]; i++)
+            if(OUTCOME_ROLLS[i] == target)
+                return OUTCOME_PROBABILITIES[i];
+        return 0;
+    }
+
+    /**
+     * Calculates the probability that a category scores any points after holding some dice
+     * and throwing the others once, for example the chance of completing a 'Full House'.
+     *
+     * @param orderedRoll Index of the current roll, see {@link ScoreTable#rollIndex(int, int, int, int, int)}.
+     * @param savedMask The dice held, bit i standing for die i.
+     * @param category Index of the category (0-12).
+     * @return The probability that the category scores after the throw.
+     */
+    public static double getCategoryProbability(int orderedRoll, int savedMask, int category) {
+        int keep = DiceCombinations.keepOfOrderedRoll(orderedRoll, savedMask);
+        double probability = 0;
+        for(int i = OUTCOME_STARTS[keep]; i < OUTCOME_STARTS[keep + 1]; i++)
+            if(ScoreTable.score(DiceCombinations.ROLL_ORDERED[OUTCOME_ROLLS[i]], category) > 0)
+                probability += OUTCOME_PROBABILITIES[i];
+        return probability;
+    }
+}
@@ -0,0 +1,99 @@
+package logic;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Evaluates a single turn of solitaire Yahtzee under optimal play.
+ *
+ * Given the expected values of all later game states, it calculates the expected value of
+ * every roll and every keep at each of the three rolls of a turn, working backwards from
+ * the final roll, using the shared {@link TransitionTable}. The arrays are reused between
+ * evaluations, so an instance must not be shared between threads.
+ */
+final class TurnEvaluator {
+    private static final int NUMBER_OF_ROLLS = DiceCombinations.NUMBER_OF_ROLLS;
+    private static final int NUMBER_OF_KEEPS = DiceCombinations.NUMBER_OF_KEEPS;
+
+    /**
+     * Expected value of every roll, indexed by the number of rolls left after it (0-2).
+     */
+    final double[][] rollValues = new double[3][NUMBER_OF_ROLLS];
+
+    /**
+     * Expected value of every keep, indexed by the number of rolls left before it is rolled (1-2).
+     */
+    final double[][] keepValues = new double[3][NUMBER_OF_KEEPS];
+
+    /**
+     * Default constructor allocating the arrays of one evaluator.
+     */
+    TurnEvaluator() {}
+
+    /**
+     * Evaluates a turn played from a game state.
+     *
+     * @param values Expected values of all game states, see {@link Strategy#stateIndex(int, int)}.
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total, capped at 63.
+     * @return The expected value of the game state.
+     */
+    double evaluate(FloatBuffer values, int filled, int upper) {
+        double[] finalRolls = rollValues[0];
+        for(int roll = 0; roll < NUMBER_OF_ROLLS; roll++) {
+            int orderedRoll = DiceCombinations.ROLL_ORDERED[roll];
+            double best = Double.NEGATIVE_INFINITY;
+            for(int category = 0; category < ScoreTable.NUMBER_OF_CATEGORIES; category++)
+                if((filled & (1 << category)) == 0)
+                    best = Math.max(best, categoryValue(values, filled, upper, orderedRoll, category));
+            finalRolls[roll] = best;
+        }
+
+        for(int rollsLeft = 1; rollsLeft <= 2; rollsLeft++) {
+            double[] next = rollValues[rollsLeft - 1];
+            double[] keeps = keepValues[rollsLeft];
+            for(int keep = 0; keep < NUMBER_OF_KEEPS; keep++) {
+                double value = 0;
+                for(int i = TransitionTable.OUTCOME_STARTS[keep]; i < TransitionTable.OUTCOME_STARTS[keep + 1]; i++)
+                    value += TransitionTable.OUTCOME_PROBABILITIES[i] * next[TransitionTable.OUTCOME_ROLLS[i]];
+                keeps[keep] = value;
+            }
+
+            double[] current = rollValues[rollsLeft];
+            for(int roll = 0; roll < NUMBER_OF_ROLLS; roll++) {
+                double best = Double.NEGATIVE_INFINITY;
+                for(int i = DiceCombinations.SUB_KEEP_STARTS[roll]; i < DiceCombinations.SUB_KEEP_STARTS[roll + 1]; i++)
+                    best = Math.max(best, keeps[DiceCombinations.SUB_KEEPS[i]]);
+                current[roll] = best;
+            }
+        }
+
+        double value = 0;
+        double[] firstRolls = rollValues[2];
+        for(int roll = 0; roll < NUMBER_OF_ROLLS; roll++)
+            value += DiceCombinations.ROLL_PROBABILITIES[roll] * firstRolls[roll];
+        return value;
+    }
+
+    /**
+     * Calculates the expected value of scoring a roll in a category: the score itself,
+     * the upper section bonus if it is reached, and the expected value of the next state.
+     *
+     * @param values Expected values of all game states.
+     * @param filled Bitmask of the filled categories.
+     * @param upper Upper section total, capped at 63.
+     * @param orderedRoll Index of the ordered roll.
+     * @param category Index of an empty category.
+     * @return The expected value of the choice.
+     */
+    static double categoryValue(FloatBuffer values, int filled, int upper, int orderedRoll, int category) {
+        int score = ScoreTable.score(orderedRoll, category);
+        int nextUpper = upper;
+        int bonus = 0;
+        if(category <= ScoreTable.SIXES) {
+            nextUpper = Math.min(Strategy.UPPER_BONUS_THRESHOLD, upper + score);
+            if(upper < Strategy.UPPER_BONUS_THRESHOLD && nextUpper == Strategy.UPPER_BONUS_THRESHOLD)
+                bonus = Strategy.UPPER_BONUS;
+        }
+        return score + bonus + values.get(Strategy.stateIndex(filled | (1 << category), nextUpper));
+    }
+}
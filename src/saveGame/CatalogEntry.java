@@ -0,0 +1,71 @@
+package saveGame;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Describes a saved game in the {@link SaveGameCatalog}: its id, when it was saved, how far
+ * it has progressed and who plays it, so that saved games can be listed without opening them.
+ */
+public final class CatalogEntry {
+    private static final DateTimeFormatter SAVED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    private final int id;
+    private final long timestamp;
+    private final int round;
+    private final String[] players;
+
+    /**
+     * Constructor for the CatalogEntry class.
+     *
+     * @param id1 The id of the saved game.
+     * @param timestamp1 The time of the save in milliseconds since the epoch.
+     * @param round1 The number of rounds every player has completed.
+     * @param players1 The names of the players.
+     */
+    CatalogEntry(int id1, long timestamp1, int round1, String[] players1) {
+        id = id1;
+        timestamp = timestamp1;
+        round = round1;
+        players = players1.clone();
+    }
+
+    /**
+     * Gets the id of the saved game.
+     *
+     * @return The id.
+     */
+    public int getId() { return id; }
+
+    /**
+     * Gets the time of the save.
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    public long getTimestamp() { return timestamp; }
+
+    /**
+     * Gets the number of rounds every player has completed.
+     *
+     * @return The number of rounds (0-13).
+     */
+    public int getRound() { return round; }
+
+    /**
+     * Gets the names of the players.
+     *
+     * @return A copy of the names.
+     */
+    public String[] getPlayers() { return players.clone(); }
+
+    /**
+     * Describes the saved game for the list of saved games.
+     *
+     * @return The id, the players, the completed rounds and the time of the save.
+     */
+    public String describe() {
+        String savedAt = SAVED_AT_FORMAT.format(Instant.ofEpochMilli(timestamp));
+        return "Game " + id + ": " + String.join(", ", players) + " - round " + round + "/13 - saved " + savedAt;
+    }
+}
@@ -0,0 +1,180 @@
+package saveGame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+import logic.Logic;
+
+/**
+ * Encodes the complete state of a game, together with the turn in progress, as a compact binary
+ * snapshot and restores it exactly.
+ *
+ * A snapshot consists of:
+ * <ul>
+ * <li>the header: the magic number "YSG" followed by the format version, and the number of players,</li>
+ * <li>the name of every player, in modified UTF-8 as written by {@link DataOutputStream#writeUTF(String)},</li>
+ * <li>the 18 fields of the score card of every player, as shorts; -1 marks an empty field,</li>
+ * <li>the dice: their values and saved flags packed into an int, see {@link Logic#getDiceState()},
+ *     and a byte of flags, bit 0 set if the dice are thrown in bulk,</li>
+ * <li>the turn cursor: the index of the current player as an int and the number of throws used as a byte,</li>
+ * <li>the CRC-32 checksum of all preceding bytes.</li>
+ * </ul>
+ * The random generator of the dice is not part of the snapshot; a restored game throws new dice.
+ */
+public final class GameSnapshot {
+    /**
+     * Version of the format written by {@link #encode(Logic, int, int)}.
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x595347; // "YSG"
+    private static final int NUMBER_OF_FIELDS = 18;
+    private static final int BULK_THROWS = 1;
+
+    private final Logic logic;
+    private final int currentPlayer;
+    private final int throwsUsed;
+
+    /**
+     * Constructor for the GameSnapshot class.
+     *
+     * @param logic1 The restored game.
+     * @param currentPlayer1 The index of the current player.
+     * @param throwsUsed1 The number of throws the current player has used.
+     */
+    private GameSnapshot(Logic logic1, int currentPlayer1, int throwsUsed1) {
+        logic = logic1;
+        currentPlayer = currentPlayer1;
+        throwsUsed = throwsUsed1;
+    }
+
+    /**
+     * Gets the restored game.
+     *
+     * @return The game.
+     */
+    public Logic getLogic() { return logic; }
+
+    /**
+     * Gets the index of the player whose turn it is.
+     *
+     * @return The index of the current player.
+     */
+    public int getCurrentPlayer() { return currentPlayer; }
+
+    /**
+     * Gets the number of throws the current player has used in this turn.
+     *
+     * @return The number of throws (0-3); 0 if the turn has not started.
+     */
+    public int getThrowsUsed() { return throwsUsed; }
+
+    /**
+     * Checks if some bytes start like a snapshot.
+     *
+     * @param bytes The bytes.
+     * @return True if the bytes start with the magic number of a snapshot.
+     */
+    public static boolean isSnapshot(byte[] bytes) {
+        return bytes.length >= 4 && ((bytes[0] & 0xff) << 16 | (bytes[1] & 0xff) << 8 | (bytes[2] & 0xff)) == MAGIC;
+    }
+
+    /**
+     * Encodes a game and the turn in progress.
+     *
+     * @param logic The game.
+     * @param currentPlayer The index of the current player.
+     * @param throwsUsed The number of throws the current player has used (0-3).
+     * @return The snapshot.
+     * @throws IllegalArgumentException if the turn is out of range or a score does not fit in a short.
+     */
+    public static byte[] encode(Logic logic, int currentPlayer, int throwsUsed) {
+        int numberOfPlayers = logic.getNumberOfPlayers();
+        if(currentPlayer < 0 || currentPlayer >= numberOfPlayers)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        if(throwsUsed < 0 || throwsUsed > 3)
+            throw new IllegalArgumentException("Invalid input: The number of throws must be between 0 and 3.");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + numberOfPlayers * (2 * NUMBER_OF_FIELDS + 16));
+        try(DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC << 8 | VERSION);
+            out.writeInt(numberOfPlayers);
+            for(String player : logic.getPlayers())
+                out.writeUTF(player);
+
+            int[] fieldValues = new int[NUMBER_OF_FIELDS];
+            for(int i = 0; i < numberOfPlayers; i++) {
+                for(int value : logic.getPlayerScore(i, fieldValues)) {
+                    if(value != (short) value)
+                        throw new IllegalArgumentException("Invalid input: Score out of range.");
+                    out.writeShort(value);
+                }
+            }
+
+            out.writeInt(logic.getDiceState());
+            out.writeByte(logic.isBulkThrows() ? BULK_THROWS : 0);
+            out.writeInt(currentPlayer);
+            out.writeByte(throwsUsed);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes.toByteArray());
+            out.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            // A ByteArrayOutputStream does not throw.
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores a game and the turn in progress from a snapshot.
+     *
+     * @param bytes The snapshot.
+     * @return The restored snapshot.
+     * @throws IOException If the bytes are not a snapshot, are damaged or have a newer version.
+     */
+    public static GameSnapshot decode(byte[] bytes) throws IOException {
+        if(!isSnapshot(bytes) || bytes.length < 12)
+            throw new IOException("Not a saved game.");
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - 4);
+        int storedChecksum = (bytes[bytes.length - 4] & 0xff) << 24 | (bytes[bytes.length - 3] & 0xff) << 16
+                | (bytes[bytes.length - 2] & 0xff) << 8 | (bytes[bytes.length - 1] & 0xff);
+        if((int) checksum.getValue() != storedChecksum)
+            throw new IOException("The saved game is damaged: checksum mismatch.");
+
+        try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4))) {
+            int version = in.readInt() & 0xff;
+            if(version > VERSION)
+                throw new IOException("The saved game has version " + version + "; this version of the game reads up to " + VERSION + ".");
+
+            int numberOfPlayers = in.readInt();
+            if(numberOfPlayers < 1 || numberOfPlayers > bytes.length)
+                throw new IOException("The saved game is damaged: invalid number of players.");
+            String[] players = new String[numberOfPlayers];
+            for(int i = 0; i < numberOfPlayers; i++)
+                players[i] = in.readUTF();
+
+            int[][] scores = new int[numberOfPlayers][NUMBER_OF_FIELDS];
+            for(int[] fieldValues : scores)
+                for(int field = 0; field < NUMBER_OF_FIELDS; field++)
+                    fieldValues[field] = in.readShort();
+
+            Logic logic = new Logic(players);
+            logic.setScores(scores);
+            logic.setDiceState(in.readInt());
+            logic.setBulkThrows((in.readByte() & BULK_THROWS) != 0);
+            int currentPlayer = in.readInt();
+            int throwsUsed = in.readByte();
+            if(currentPlayer < 0 || currentPlayer >= numberOfPlayers || throwsUsed < 0 || throwsUsed > 3)
+                throw new IOException("The saved game is damaged: invalid turn.");
+            return new GameSnapshot(logic, currentPlayer, throwsUsed);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("The saved game is damaged: " + e.getMessage(), e);
+        }
+    }
+}
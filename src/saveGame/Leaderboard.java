@@ -0,0 +1,630 @@
+package saveGame;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the high scores in memory, ordered by score, and appends new results to the high score files.
+ *
+ * The results are stored in two append-only binary files. The score file holds a header and
+ * then one fixed record per result: the number of the player's name and the score, both as
+ * big-endian ints. The name file, next to it with the extension ".names", is the string table:
+ * a header and then every distinct name once, as an unsigned short length and UTF-8 bytes.
+ * Both files are read once, through memory mappings, when the leaderboard of a path is first
+ * requested; the score records are copied in bulk without any parsing. If the score file does
+ * not exist yet, the results of the text file with the same name and the extension ".txt",
+ * alternating name and score lines, are migrated into it once.
+ *
+ * Every result gets an entry number in the order it was recorded, and an index array holds the
+ * entry numbers sorted by descending score, equal scores in the order they were recorded. A new
+ * result is placed into the index by binary search and appended to the files, so the files are
+ * never rewritten. Ranks are found by binary search over the index.
+ *
+ * The {@link PlayerStatistics} of every player are kept in an array indexed by the number of
+ * the name, found through a hash map, and stored in a third file with the extension ".stats":
+ * a header and then one fixed record per name, at the position given by its number. Recording
+ * a game updates the statistics of the player in memory and rewrites only that record. If the
+ * statistics of a player do not match the results on opening, because the file is missing or a
+ * write was interrupted, they are rebuilt from the final totals of the player's results.
+ */
+public final class Leaderboard {
+    /**
+     * Path of the high score file shared by all games.
+     */
+    public static final Path DEFAULT_FILE = Paths.get("highscores/scores.bin");
+
+    /**
+     * Number of high scores and of best players the games show.
+     */
+    public static final int HIGH_SCORES_SHOWN = 20;
+
+    private static final int SCORES_MAGIC = 0x59485331; // "YHS1"
+    private static final int NAMES_MAGIC = 0x59484e31; // "YHN1"
+    private static final int STATISTICS_MAGIC = 0x59485031; // "YHP1"
+    private static final int HEADER_SIZE = 4;
+    private static final int RECORD_SIZE = 8;
+    private static final int MAX_NAME_LENGTH = 0xffff;
+    private static final int NUMBER_OF_FIELDS = 18;
+    private static final int FINAL_TOTAL = 17;
+
+    private static final Map<Path, Leaderboard> instances = new HashMap<>();
+
+    private final Path filePath;
+    private final Path namesPath;
+    private final Path statisticsPath;
+    private String[] names = new String[16];
+    private int[] bestEntries = new int[16];
+    private PlayerStatistics[] statistics = new PlayerStatistics[16];
+    private int numberOfNames;
+    private final Map<String, Integer> nameNumbers = new HashMap<>();
+    private int[] players = new int[16];
+    private int[] scores = new int[16];
+    private int[] order = new int[16];
+    private int size;
+
+    /**
+     * Constructor creating an empty leaderboard for a file.
+     *
+     * @param filePath1 The high score file.
+     */
+    private Leaderboard(Path filePath1) {
+        filePath = filePath1;
+        namesPath = sibling(".names");
+        statisticsPath = sibling(".stats");
+    }
+
+    /**
+     * Returns the leaderboard of the shared high score file, see {@link #DEFAULT_FILE}.
+     *
+     * @return The leaderboard.
+     */
+    public static Leaderboard getInstance() { return getInstance(DEFAULT_FILE); }
+
+    /**
+     * Returns the leaderboard of a high score file, reading the file on first use.
+     *
+     * @param filePath The high score file.
+     * @return The leaderboard.
+     */
+    public static synchronized Leaderboard getInstance(Path filePath) {
+        Path key = filePath.toAbsolutePath().normalize();
+        Leaderboard leaderboard = instances.get(key);
+        if(leaderboard == null) {
+            leaderboard = new Leaderboard(filePath);
+            leaderboard.load();
+            instances.put(key, leaderboard);
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Finds the file next to the score file with the same name and another extension.
+     *
+     * @param extension The extension, including the dot.
+     * @return The path of the file.
+     */
+    private Path sibling(String extension) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return filePath.resolveSibling((dot > 0 ? fileName.substring(0, dot) : fileName) + extension);
+    }
+
+    /**
+     * Reads every result, migrating the text file if there is no score file yet, and sorts the index once.
+     */
+    private void load() {
+        try {
+            if(Files.exists(filePath))
+                readBinary();
+            else if(Files.exists(sibling(".txt")))
+                migrate(sibling(".txt"));
+            else
+                Files.deleteIfExists(namesPath); // Left by an interrupted migration; no record refers to it.
+            loadStatistics();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        sortIndex();
+    }
+
+    /**
+     * Sorts the index by descending score, then ascending entry. Scores within a range not much
+     * larger than the number of results are counted in O(n) time; otherwise the entries are sorted.
+     */
+    private void sortIndex() {
+        if(size == 0)
+            return;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for(int entry = 0; entry < size; entry++) {
+            min = Math.min(min, scores[entry]);
+            max = Math.max(max, scores[entry]);
+        }
+
+        long range = (long) max - min + 1;
+        if(range <= 4L * size + 1024) {
+            // starts[v] ends up as the position of the first result scoring max - v.
+            int[] starts = new int[(int) range];
+            for(int entry = 0; entry < size; entry++)
+                starts[max - scores[entry]]++;
+            for(int value = 0, position = 0; value < range; value++) {
+                int count = starts[value];
+                starts[value] = position;
+                position += count;
+            }
+            for(int entry = 0; entry < size; entry++)
+                order[starts[max - scores[entry]]++] = entry;
+        } else {
+            // Sort by descending score, then ascending entry, packed into longs.
+            long[] keys = new long[size];
+            for(int entry = 0; entry < size; entry++)
+                keys[entry] = (-(long) scores[entry] << 32) | entry;
+            Arrays.sort(keys);
+            for(int i = 0; i < size; i++)
+                order[i] = (int) keys[i];
+        }
+    }
+
+    /**
+     * Reads the name file and the score file. A record or name cut off by an interrupted write
+     * is removed from the end of its file, so that later records are appended at the right place
+     * and a new name never takes the number of a lost one.
+     *
+     * @throws IOException If a file cannot be read or is not a high score file.
+     */
+    private void readBinary() throws IOException {
+        if(Files.exists(namesPath)) {
+            try(FileChannel channel = FileChannel.open(namesPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                checkHeader(buffer, NAMES_MAGIC, namesPath);
+                int end = buffer.position();
+                while(buffer.remaining() >= 2) {
+                    int length = Short.toUnsignedInt(buffer.getShort());
+                    if(buffer.remaining() < length)
+                        break;
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    addName(new String(bytes, StandardCharsets.UTF_8));
+                    end = buffer.position();
+                }
+                if(end < channel.size())
+                    channel.truncate(end);
+            }
+        }
+
+        try(FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            checkHeader(buffer, SCORES_MAGIC, filePath);
+            int count = buffer.remaining() / RECORD_SIZE;
+            ensureCapacity(count);
+            int[] records = new int[2 * count];
+            buffer.asIntBuffer().get(records);
+            for(int entry = 0; entry < count; entry++) {
+                int player = records[2 * entry];
+                int score = records[2 * entry + 1];
+                // A name is written before its first record, so a record with an unknown name
+                // and every record after it were written after the name file was cut off.
+                if(player < 0 || player >= numberOfNames) {
+                    count = entry;
+                    break;
+                }
+                addEntry(player, score);
+            }
+            long end = HEADER_SIZE + (long) count * RECORD_SIZE;
+            if(end < channel.size())
+                channel.truncate(end);
+        }
+    }
+
+    /**
+     * Reads the statistics file and rebuilds the statistics of every player whose number of
+     * games does not match the number of results, writing the whole file again if there are any.
+     *
+     * @throws IOException If the file cannot be read or written, or is not a statistics file.
+     */
+    private void loadStatistics() throws IOException {
+        int[] games = new int[numberOfNames];
+        for(int entry = 0; entry < size; entry++)
+            games[players[entry]]++;
+
+        if(Files.exists(statisticsPath)) {
+            try(FileChannel channel = FileChannel.open(statisticsPath, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                checkHeader(buffer, STATISTICS_MAGIC, statisticsPath);
+                int count = Math.min(buffer.remaining() / PlayerStatistics.RECORD_SIZE, numberOfNames);
+                for(int name = 0; name < count; name++)
+                    statistics[name] = PlayerStatistics.read(buffer);
+            }
+        }
+
+        boolean[] stale = new boolean[numberOfNames];
+        boolean anyStale = false;
+        for(int name = 0; name < numberOfNames; name++) {
+            if(statistics[name].getGames() != games[name]) {
+                statistics[name] = new PlayerStatistics();
+                stale[name] = true;
+                anyStale = true;
+            }
+        }
+        if(!anyStale)
+            return;
+
+        for(int entry = 0; entry < size; entry++)
+            if(stale[players[entry]])
+                statistics[players[entry]].add(scores[entry]);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + numberOfNames * PlayerStatistics.RECORD_SIZE).putInt(STATISTICS_MAGIC);
+        for(int name = 0; name < numberOfNames; name++)
+            statistics[name].write(buffer);
+        createDirectories();
+        write(statisticsPath, buffer.flip(), StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Checks that a file starts with the expected header and moves past it.
+     *
+     * @param buffer The contents of the file.
+     * @param magic The expected header.
+     * @param path The path of the file.
+     * @throws IOException If the header is missing or different.
+     */
+    private static void checkHeader(ByteBuffer buffer, int magic, Path path) throws IOException {
+        if(buffer.remaining() < HEADER_SIZE || buffer.getInt() != magic)
+            throw new IOException("Not a high score file: " + path);
+    }
+
+    /**
+     * Reads the results of a text file, alternating name and score lines, and writes them to new binary files.
+     *
+     * @param textPath The text file.
+     * @throws IOException If a file cannot be read or written.
+     */
+    private void migrate(Path textPath) throws IOException {
+        try(BufferedReader reader = new BufferedReader(new FileReader(textPath.toFile()))) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                String player = line.trim();
+                line = reader.readLine();
+                if(line == null)
+                    break;
+                checkName(player);
+                Integer number = nameNumbers.get(player);
+                addEntry(number == null ? addName(player) : number, Integer.parseInt(line.trim()));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid high score file: " + textPath, e);
+        }
+
+        createDirectories();
+        int namesLength = HEADER_SIZE;
+        byte[][] encodedNames = new byte[numberOfNames][];
+        for(int name = 0; name < numberOfNames; name++) {
+            encodedNames[name] = names[name].getBytes(StandardCharsets.UTF_8);
+            namesLength += 2 + encodedNames[name].length;
+        }
+        ByteBuffer namesBuffer = ByteBuffer.allocate(namesLength).putInt(NAMES_MAGIC);
+        for(byte[] bytes : encodedNames)
+            namesBuffer.putShort((short) bytes.length).put(bytes);
+        ByteBuffer recordsBuffer = ByteBuffer.allocate(HEADER_SIZE + size * RECORD_SIZE).putInt(SCORES_MAGIC);
+        for(int entry = 0; entry < size; entry++)
+            recordsBuffer.putInt(players[entry]).putInt(scores[entry]);
+
+        // The score file is written last: once it exists, the migration is complete.
+        write(namesPath, namesBuffer.flip(), StandardOpenOption.TRUNCATE_EXISTING);
+        write(filePath, recordsBuffer.flip(), StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Records a result of which only the final total is known and appends it to the high score files.
+     *
+     * @param player Name of the player.
+     * @param score Final score of the player.
+     * @throws IllegalArgumentException if the name is empty, contains a line break or is too long.
+     */
+    public synchronized void add(String player, int score) {
+        record(player, score, null);
+    }
+
+    /**
+     * Records a finished game of a player and appends it to the high score files.
+     *
+     * @param player Name of the player.
+     * @param fieldValues The values of the 18 fields of the score card of the player.
+     * @throws IllegalArgumentException if the name is empty, contains a line break or is too long,
+     *         or the score card does not have 18 fields.
+     */
+    public synchronized void add(String player, int[] fieldValues) {
+        if(fieldValues.length != NUMBER_OF_FIELDS)
+            throw new IllegalArgumentException("Invalid input: score card must have 18 fields.");
+        record(player, fieldValues[FINAL_TOTAL], fieldValues);
+    }
+
+    /**
+     * Records a result, updates the statistics of the player and appends both to the high score files.
+     *
+     * @param player Name of the player.
+     * @param score Final score of the player.
+     * @param fieldValues The score card of the player, or null if only the final score is known.
+     * @throws IllegalArgumentException if the name is empty, contains a line break or is too long.
+     */
+    private void record(String player, int score, int[] fieldValues) {
+        if(player == null)
+            throw new IllegalArgumentException("Invalid input: name must be non-empty and on one line.");
+        player = player.trim();
+        checkName(player);
+
+        int position = countScoresAtLeast(score);
+        Integer number = nameNumbers.get(player);
+        boolean newName = number == null;
+        if(newName)
+            number = addName(player);
+        int entry = addEntry(number, score);
+        System.arraycopy(order, position, order, position + 1, entry - position);
+        order[position] = entry;
+        if(fieldValues == null)
+            statistics[number].add(score);
+        else
+            statistics[number].add(fieldValues);
+
+        try {
+            createDirectories();
+            if(newName) {
+                byte[] bytes = player.getBytes(StandardCharsets.UTF_8);
+                ByteBuffer name = ByteBuffer.allocate(2 + bytes.length).putShort((short) bytes.length).put(bytes);
+                if(!Files.exists(namesPath))
+                    write(namesPath, ByteBuffer.allocate(HEADER_SIZE).putInt(NAMES_MAGIC).flip(), StandardOpenOption.APPEND);
+                write(namesPath, name.flip(), StandardOpenOption.APPEND);
+            }
+            if(!Files.exists(filePath))
+                write(filePath, ByteBuffer.allocate(HEADER_SIZE).putInt(SCORES_MAGIC).flip(), StandardOpenOption.APPEND);
+            write(filePath, ByteBuffer.allocate(RECORD_SIZE).putInt(number).putInt(score).flip(), StandardOpenOption.APPEND);
+            writeStatistics(number);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the statistics record of a player at its position in the statistics file.
+     *
+     * @param number The number of the name of the player.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeStatistics(int number) throws IOException {
+        try(FileChannel channel = FileChannel.open(statisticsPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if(channel.size() < HEADER_SIZE)
+                channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(STATISTICS_MAGIC).flip(), 0);
+            ByteBuffer buffer = ByteBuffer.allocate(PlayerStatistics.RECORD_SIZE);
+            statistics[number].write(buffer);
+            buffer.flip();
+            long position = HEADER_SIZE + (long) number * PlayerStatistics.RECORD_SIZE;
+            while(buffer.hasRemaining())
+                position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Checks that a name can be stored.
+     *
+     * @param player Name of the player.
+     * @throws IllegalArgumentException if the name is empty, contains a line break or is too long.
+     */
+    private static void checkName(String player) {
+        if(player.isEmpty() || player.contains("\n") || player.contains("\r"))
+            throw new IllegalArgumentException("Invalid input: name must be non-empty and on one line.");
+        if(player.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_LENGTH)
+            throw new IllegalArgumentException("Invalid input: name is too long.");
+    }
+
+    /**
+     * Creates the directory of the high score files if it does not exist.
+     *
+     * @throws IOException If the directory cannot be created.
+     */
+    private void createDirectories() throws IOException {
+        Files.createDirectories(filePath.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Writes bytes to a file through a channel, creating the file if needed.
+     *
+     * @param path The file.
+     * @param bytes The bytes to write.
+     * @param mode {@link StandardOpenOption#APPEND} or {@link StandardOpenOption#TRUNCATE_EXISTING}.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void write(Path path, ByteBuffer bytes, StandardOpenOption mode) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while(bytes.hasRemaining())
+                channel.write(bytes);
+        }
+    }
+
+    /**
+     * Stores a name as the next entry of the string table.
+     *
+     * @param player Name of the player.
+     * @return The number of the name.
+     */
+    private int addName(String player) {
+        if(numberOfNames == names.length) {
+            names = Arrays.copyOf(names, 2 * numberOfNames);
+            bestEntries = Arrays.copyOf(bestEntries, 2 * numberOfNames);
+            statistics = Arrays.copyOf(statistics, 2 * numberOfNames);
+        }
+        int number = numberOfNames++;
+        names[number] = player;
+        bestEntries[number] = -1;
+        statistics[number] = new PlayerStatistics();
+        nameNumbers.put(player, number);
+        return number;
+    }
+
+    /**
+     * Makes room for a number of results.
+     *
+     * @param capacity The number of results.
+     */
+    private void ensureCapacity(int capacity) {
+        if(capacity > scores.length) {
+            players = Arrays.copyOf(players, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+    }
+
+    /**
+     * Stores a result as the next entry, growing the arrays as needed.
+     *
+     * @param player Number of the name of the player.
+     * @param score Final score of the player.
+     * @return The entry number of the result.
+     */
+    private int addEntry(int player, int score) {
+        if(size == scores.length)
+            ensureCapacity(2 * size);
+        int entry = size++;
+        players[entry] = player;
+        scores[entry] = score;
+
+        int best = bestEntries[player];
+        if(best == -1 || scores[best] < score)
+            bestEntries[player] = entry;
+        return entry;
+    }
+
+    /**
+     * Counts the results scoring at least a given score by binary search over the index.
+     *
+     * @param score The score.
+     * @return The number of results with that score or more.
+     */
+    private int countScoresAtLeast(int score) {
+        int low = 0;
+        int high = size - 1;
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            if(scores[order[middle]] >= score)
+                low = middle + 1;
+            else
+                high = middle - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of recorded results.
+     *
+     * @return The number of results.
+     */
+    public synchronized int size() { return size; }
+
+    /**
+     * Selects the best results.
+     *
+     * @param n Number of results to select.
+     * @return The entry numbers of at most n results, best first.
+     */
+    public synchronized int[] getTop(int n) {
+        return Arrays.copyOf(order, Math.max(0, Math.min(n, size)));
+    }
+
+    /**
+     * Gets the player of a result.
+     *
+     * @param entry The entry number of the result.
+     * @return The name of the player.
+     * @throws IllegalArgumentException if the entry does not exist.
+     */
+    public synchronized String getPlayer(int entry) {
+        checkEntry(entry);
+        return names[players[entry]];
+    }
+
+    /**
+     * Gets the score of a result.
+     *
+     * @param entry The entry number of the result.
+     * @return The score.
+     * @throws IllegalArgumentException if the entry does not exist.
+     */
+    public synchronized int getScore(int entry) {
+        checkEntry(entry);
+        return scores[entry];
+    }
+
+    /**
+     * Calculates the rank a score would have; results with equal scores share a rank.
+     *
+     * @param score The score.
+     * @return One more than the number of better results.
+     */
+    public synchronized int getRank(int score) {
+        return countScoresAtLeast(score + 1) + 1;
+    }
+
+    /**
+     * Calculates the rank of the best result of a player.
+     *
+     * @param player Name of the player.
+     * @return The rank, or -1 if the player has no result.
+     */
+    public synchronized int getPlayerRank(String player) {
+        Integer number = nameNumbers.get(player);
+        return number == null ? -1 : getRank(scores[bestEntries[number]]);
+    }
+
+    /**
+     * Gets the statistics of a player.
+     *
+     * @param player Name of the player.
+     * @return A copy of the statistics, or null if the player has no result.
+     */
+    public synchronized PlayerStatistics getStatistics(String player) {
+        Integer number = nameNumbers.get(player);
+        return number == null ? null : new PlayerStatistics(statistics[number]);
+    }
+
+    /**
+     * Selects the players with the best results, each player once.
+     *
+     * @param n Number of players to select.
+     * @return The names of at most n players, ordered by their best result.
+     */
+    public synchronized String[] getBestPlayers(int n) {
+        String[] bestPlayers = new String[Math.max(0, Math.min(n, numberOfNames))];
+        boolean[] selected = new boolean[numberOfNames];
+        int count = 0;
+        for(int i = 0; i < size && count < bestPlayers.length; i++) {
+            int player = players[order[i]];
+            if(!selected[player]) {
+                selected[player] = true;
+                bestPlayers[count++] = names[player];
+            }
+        }
+        return Arrays.copyOf(bestPlayers, count);
+    }
+
+    /**
+     * Checks that an entry exists.
+     *
+     * @param entry The entry number.
+     * @throws IllegalArgumentException if the entry does not exist.
+     */
+    private void checkEntry(int entry) {
+        if(entry < 0 || entry >= size)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+    }
+}
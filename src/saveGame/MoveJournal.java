@@ -0,0 +1,491 @@
+package saveGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import logic.Logic;
+
+/**
+ * Records the moves of the game in progress in an append-only journal, so that a game that was
+ * interrupted, for example by a crash, can be continued from its last move.
+ *
+ * The journal starts with a {@link GameSnapshot} of the game and the id of the game in the
+ * {@link SaveGameCatalog}, followed by fixed-size event records: the dice after every roll, the
+ * dice after every change of the held dice, the fields filled in during a turn and the end of
+ * every turn. A record holds its type in a byte and the player, the argument and the value in
+ * ints, so games of any number of players are recorded. Every record carries a checksum, so a
+ * record cut off by a crash ends the journal.
+ * Saving the game replaces the journal with a new snapshot, which keeps it short.
+ *
+ * Records are committed in groups: a group is written with a single write and forced to disk
+ * when a turn ends, when it holds {@value #COMMIT_BATCH} records, or {@value #COMMIT_DELAY_MILLIS}
+ * milliseconds after its first record, whichever comes first. The journal is locked while it is
+ * open, so one game at a time uses a journal file.
+ *
+ * The game is read on the thread that records the moves, but the journal is written by a
+ * background thread, so recording a move never waits for the disk.
+ */
+public final class MoveJournal {
+    /**
+     * Journal shared by all games.
+     */
+    public static final Path DEFAULT_FILE = SaveGameCatalog.DEFAULT_DIRECTORY.resolve("journal.bin");
+
+    private static final int MAGIC = 0x594d4a31; // "YMJ1"
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int RECORD_SIZE = 1 + 4 * Integer.BYTES;
+    private static final int COMMIT_BATCH = 64;
+    private static final long COMMIT_DELAY_MILLIS = 200;
+    private static final int NUMBER_OF_FIELDS = 18;
+
+    private static final byte ROLL = 1;
+    private static final byte HOLD = 2;
+    private static final byte SCORE = 3;
+    private static final byte END_TURN = 4;
+
+    private static final Map<Path, MoveJournal> openJournals = new HashMap<>();
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path path;
+    private final Logic logic;
+    private final int[][] journaledScores;
+    private final ByteBuffer pending = ByteBuffer.allocate(COMMIT_BATCH * RECORD_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private ScheduledFuture<?> scheduledCommit;
+    private boolean closed;
+
+    // Only used by the writer thread.
+    private FileChannel lockChannel;
+    private FileChannel channel;
+
+    /**
+     * Constructor creating a closed journal of a game.
+     *
+     * @param path1 The path of the journal.
+     * @param logic1 The game.
+     */
+    private MoveJournal(Path path1, Logic logic1) {
+        path = path1;
+        logic = logic1;
+        journaledScores = new int[logic.getNumberOfPlayers()][];
+    }
+
+    /**
+     * Starts the journal of a game, replacing the journal of the game that used the file before.
+     * If the journal cannot be written, the game is played without it and its moves are not recorded.
+     *
+     * @param file The path of the journal.
+     * @param saveGame The game, with the turn in progress and its id in the catalog.
+     * @return The journal.
+     */
+    public static synchronized MoveJournal start(Path file, SaveGame saveGame) {
+        Path key = file.toAbsolutePath().normalize();
+        MoveJournal previous = openJournals.get(key);
+        if(previous != null)
+            previous.close();
+
+        MoveJournal journal = new MoveJournal(file, saveGame.getLogic());
+        openJournals.put(key, journal);
+        synchronized(journal) {
+            byte[] header = journal.createHeader(saveGame);
+            writer.execute(() -> journal.open(header));
+        }
+        return journal;
+    }
+
+    /**
+     * Restores the game recorded in a journal that was not finished, such as after a crash.
+     * Waits until the journals closed before have been written.
+     *
+     * @param file The path of the journal.
+     * @return The game with the turn in progress, or null if there is no unfinished game or its journal is in use.
+     * @throws IOException If the journal cannot be read or its snapshot is damaged.
+     */
+    public static SaveGame recover(Path file) throws IOException {
+        synchronized(MoveJournal.class) {
+            if(openJournals.containsKey(file.toAbsolutePath().normalize()))
+                return null;
+        }
+        try {
+            return writer.submit(() -> {
+                if(!Files.exists(file))
+                    return null;
+                try(FileChannel lock = FileChannel.open(lockPath(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    if(lock.tryLock() == null)
+                        return null;
+                    return replay(Files.readAllBytes(file));
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the journal.", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Deletes the journal of an unfinished game that will not be continued.
+     *
+     * @param file The path of the journal.
+     */
+    public static synchronized void discard(Path file) {
+        if(openJournals.containsKey(file.toAbsolutePath().normalize()))
+            return;
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Records a roll of the dice.
+     *
+     * @param player The index of the player who rolled.
+     * @param throwsUsed The number of throws the player has used, including this one.
+     */
+    public void recordRoll(int player, int throwsUsed) { record(ROLL, player, throwsUsed, logic.getDiceState()); }
+
+    /**
+     * Records a change of the held dice.
+     *
+     * @param player The index of the player who holds the dice.
+     * @param throwsUsed The number of throws the player has used.
+     */
+    public void recordHold(int player, int throwsUsed) { record(HOLD, player, throwsUsed, logic.getDiceState()); }
+
+    /**
+     * Records the end of a turn with the fields that were filled in, and commits the journal.
+     *
+     * @param player The index of the player whose turn ended.
+     * @param nextPlayer The index of the player whose turn is next.
+     */
+    public synchronized void recordTurnEnd(int player, int nextPlayer) {
+        if(closed)
+            return;
+        int[] fieldValues = new int[NUMBER_OF_FIELDS];
+        for(int i = 0; i < journaledScores.length; i++) {
+            logic.getPlayerScore(i, fieldValues);
+            for(int field = 0; field < NUMBER_OF_FIELDS; field++)
+                if(fieldValues[field] != journaledScores[i][field]) {
+                    record(SCORE, i, field, fieldValues[field]);
+                    journaledScores[i][field] = fieldValues[field];
+                }
+        }
+        record(END_TURN, player, nextPlayer, 0);
+        commitPending();
+    }
+
+    /**
+     * Replaces the journal with a snapshot of the game, such as after the game was saved.
+     *
+     * @param saveGame The game, with the turn in progress and its id in the catalog.
+     */
+    public synchronized void checkpoint(SaveGame saveGame) {
+        if(closed)
+            return;
+        // The snapshot holds the moves that are still pending.
+        cancelScheduledCommit();
+        pending.clear();
+        byte[] header = createHeader(saveGame);
+        writer.execute(() -> {
+            try {
+                writeSnapshot(header);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Closes and deletes the journal of a game that is over.
+     */
+    public void finish() {
+        synchronized(this) {
+            if(closed)
+                return;
+            closed = true;
+            cancelScheduledCommit();
+            writer.execute(() -> {
+                boolean locked = lockChannel != null;
+                closeChannels(true);
+                try {
+                    if(locked)
+                        Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                closeChannels(false);
+            });
+        }
+        unregister();
+    }
+
+    /**
+     * Commits the pending records and closes the journal; the game can be recovered from it.
+     */
+    public void close() {
+        synchronized(this) {
+            if(closed)
+                return;
+            commitPending();
+            closed = true;
+            writer.execute(() -> {
+                closeChannels(true);
+                closeChannels(false);
+            });
+        }
+        unregister();
+    }
+
+    /**
+     * Removes the journal from the open journals.
+     */
+    private void unregister() {
+        synchronized(MoveJournal.class) {
+            openJournals.remove(path.toAbsolutePath().normalize(), this);
+        }
+    }
+
+    /**
+     * Encodes the header of the journal of a game, with the snapshot of the game, and makes
+     * the score cards of the snapshot the ones the turn records are compared with.
+     *
+     * @param saveGame The game.
+     * @return The header.
+     */
+    private byte[] createHeader(SaveGame saveGame) {
+        byte[] snapshot = GameSnapshot.encode(logic, saveGame.getCurrentPlayer(), saveGame.getThrowsUsed());
+        for(int i = 0; i < journaledScores.length; i++)
+            journaledScores[i] = logic.getPlayerScore(i, new int[NUMBER_OF_FIELDS]);
+        return ByteBuffer.allocate(HEADER_SIZE + snapshot.length)
+            .putInt(MAGIC).putInt(saveGame.getGameId()).putInt(snapshot.length).put(snapshot).array();
+    }
+
+    /**
+     * Locks the journal and writes the header it starts with; runs on the writer thread.
+     * If the journal cannot be opened, its records are dropped.
+     *
+     * @param header The header.
+     */
+    private void open(byte[] header) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            lockChannel = FileChannel.open(lockPath(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = lockChannel.tryLock();
+            if(lock == null)
+                throw new IOException("The journal " + path + " is used by another game.");
+            writeSnapshot(header);
+        } catch (IOException e) {
+            e.printStackTrace();
+            closeChannels(true);
+            closeChannels(false);
+        }
+    }
+
+    /**
+     * Replaces the journal with a new one holding only a header, through a temporary file; runs on the writer thread.
+     *
+     * @param header The header.
+     * @throws IOException If the journal cannot be written.
+     */
+    private void writeSnapshot(byte[] header) throws IOException {
+        if(lockChannel == null)
+            return;
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try(FileChannel out = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            while(buffer.hasRemaining())
+                out.write(buffer);
+            out.force(true);
+        }
+        closeChannels(true);
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Closes the journal or the lock file; runs on the writer thread.
+     *
+     * @param journal True to close the journal, false to close the lock file, which releases the lock.
+     */
+    private void closeChannels(boolean journal) {
+        try {
+            if(journal && channel != null)
+                channel.close();
+            if(!journal && lockChannel != null)
+                lockChannel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if(journal)
+            channel = null;
+        else lockChannel = null;
+    }
+
+    /**
+     * Adds a record to the pending group and commits the group when it is full; otherwise the
+     * group is committed after a short delay.
+     *
+     * @param type The type of the record.
+     * @param player The index of the player.
+     * @param argument The number of throws, the field or the next player, depending on the type.
+     * @param value The dice or the value of the field, depending on the type.
+     */
+    private synchronized void record(byte type, int player, int argument, int value) {
+        if(closed)
+            return;
+        int start = pending.position();
+        pending.put(type).putInt(player).putInt(argument).putInt(value);
+        checksum.reset();
+        checksum.update(pending.array(), start, RECORD_SIZE - Integer.BYTES);
+        pending.putInt((int) checksum.getValue());
+
+        if(!pending.hasRemaining())
+            commitPending();
+        else if(scheduledCommit == null)
+            scheduledCommit = writer.schedule(this::commitPending, COMMIT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hands the pending records to the writer thread as one group.
+     */
+    private synchronized void commitPending() {
+        cancelScheduledCommit();
+        if(pending.position() == 0)
+            return;
+        byte[] group = Arrays.copyOf(pending.array(), pending.position());
+        pending.clear();
+        writer.execute(() -> write(group));
+    }
+
+    /**
+     * Writes a group of records with a single write and forces it to disk; runs on the writer thread.
+     *
+     * @param group The records.
+     */
+    private void write(byte[] group) {
+        if(channel == null)
+            return;
+        ByteBuffer buffer = ByteBuffer.wrap(group);
+        try {
+            while(buffer.hasRemaining())
+                channel.write(buffer);
+            channel.force(false);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Cancels the delayed commit of the pending group, if there is one.
+     */
+    private void cancelScheduledCommit() {
+        if(scheduledCommit != null) {
+            scheduledCommit.cancel(false);
+            scheduledCommit = null;
+        }
+    }
+
+    /**
+     * Restores a game from the snapshot at the start of a journal and the records that follow it,
+     * up to the first incomplete or damaged record.
+     *
+     * @param bytes The journal.
+     * @return The game with the turn in progress.
+     * @throws IOException If the journal does not start with a valid snapshot.
+     */
+    private static SaveGame replay(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if(bytes.length < HEADER_SIZE || buffer.getInt() != MAGIC)
+            throw new IOException("Not a journal.");
+        int gameId = buffer.getInt();
+        int snapshotLength = buffer.getInt();
+        if(snapshotLength < 0 || snapshotLength > buffer.remaining())
+            throw new IOException("The journal is damaged: incomplete snapshot.");
+        byte[] snapshotBytes = new byte[snapshotLength];
+        buffer.get(snapshotBytes);
+        GameSnapshot snapshot = GameSnapshot.decode(snapshotBytes);
+
+        Logic logic = snapshot.getLogic();
+        int numberOfPlayers = logic.getNumberOfPlayers();
+        int[][] scores = logic.getScores();
+        int diceState = logic.getDiceState();
+        int currentPlayer = snapshot.getCurrentPlayer();
+        int throwsUsed = snapshot.getThrowsUsed();
+
+        CRC32 checksum = new CRC32();
+        while(buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            byte type = buffer.get();
+            int player = buffer.getInt();
+            int argument = buffer.getInt();
+            int value = buffer.getInt();
+            checksum.reset();
+            checksum.update(bytes, start, RECORD_SIZE - Integer.BYTES);
+            if(buffer.getInt() != (int) checksum.getValue() || player < 0 || player >= numberOfPlayers)
+                break;
+
+            if((type == ROLL || type == HOLD) && argument >= 0 && argument <= 3) {
+                diceState = value;
+                currentPlayer = player;
+                throwsUsed = argument;
+            } else if(type == SCORE && argument >= 0 && argument < NUMBER_OF_FIELDS)
+                scores[player][argument] = value;
+            else if(type == END_TURN && argument >= 0 && argument < numberOfPlayers) {
+                currentPlayer = argument;
+                throwsUsed = 0;
+            } else break;
+        }
+
+        logic.setScores(scores);
+        logic.setDiceState(diceState);
+        if(throwsUsed == 0)
+            logic.unsaveDices();
+
+        SaveGame saveGame = new SaveGame(logic);
+        saveGame.playerUsernames = logic.getPlayers();
+        saveGame.setTurn(currentPlayer, throwsUsed);
+        saveGame.setGameId(gameId);
+        return saveGame;
+    }
+
+    /**
+     * Gets the file that is locked while a journal is open.
+     *
+     * @param file The path of the journal.
+     * @return The path of the lock file.
+     */
+    private static Path lockPath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".lock");
+    }
+}
@@ -0,0 +1,184 @@
+package saveGame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Holds the statistics of a player over all recorded games: the number of games, the best and
+ * the average final total, how often the upper section bonus and a Yahtzee were scored, and the
+ * sum of every field of the score card.
+ *
+ * The statistics are running aggregates, so recording a game takes constant time, and they are
+ * stored as one fixed-size record per player. Results recorded before full score cards were
+ * kept, such as those migrated from the text file, only count towards the games and the final
+ * totals; the rates and field averages are taken over the games with a full score card.
+ */
+public final class PlayerStatistics {
+    private static final int NUMBER_OF_FIELDS = 18;
+
+    /**
+     * Size in bytes of a stored record.
+     */
+    static final int RECORD_SIZE = 5 * Integer.BYTES + NUMBER_OF_FIELDS * Long.BYTES;
+
+    private static final int BONUS = 7;
+    private static final int YAHTZEE = 14;
+    private static final int FINAL_TOTAL = 17;
+
+    private int games;
+    private int detailedGames;
+    private int bestScore = -1;
+    private int bonusGames;
+    private int yahtzeeGames;
+    private final long[] fieldSums = new long[NUMBER_OF_FIELDS];
+
+    /**
+     * Constructor creating the statistics of a player without games.
+     */
+    PlayerStatistics() {}
+
+    /**
+     * Constructor copying the statistics of a player.
+     *
+     * @param other The statistics to copy.
+     */
+    PlayerStatistics(PlayerStatistics other) {
+        games = other.games;
+        detailedGames = other.detailedGames;
+        bestScore = other.bestScore;
+        bonusGames = other.bonusGames;
+        yahtzeeGames = other.yahtzeeGames;
+        System.arraycopy(other.fieldSums, 0, fieldSums, 0, NUMBER_OF_FIELDS);
+    }
+
+    /**
+     * Records a game of which only the final total is known.
+     *
+     * @param score The final total.
+     */
+    void add(int score) {
+        games++;
+        bestScore = Math.max(bestScore, score);
+        fieldSums[FINAL_TOTAL] += score;
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param fieldValues The values of the 18 fields of the score card; empty fields and a missed bonus count as zero.
+     * @throws IllegalArgumentException if the score card does not have 18 fields.
+     */
+    void add(int[] fieldValues) {
+        if(fieldValues.length != NUMBER_OF_FIELDS)
+            throw new IllegalArgumentException("Invalid input: score card must have 18 fields.");
+        games++;
+        detailedGames++;
+        bestScore = Math.max(bestScore, fieldValues[FINAL_TOTAL]);
+        if(fieldValues[BONUS] > 0)
+            bonusGames++;
+        if(fieldValues[YAHTZEE] > 0)
+            yahtzeeGames++;
+        for(int field = 0; field < NUMBER_OF_FIELDS; field++)
+            if(fieldValues[field] > 0)
+                fieldSums[field] += fieldValues[field];
+    }
+
+    /**
+     * Writes the statistics as a record.
+     *
+     * @param buffer The buffer with at least {@link #RECORD_SIZE} bytes remaining.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putInt(games).putInt(detailedGames).putInt(bestScore).putInt(bonusGames).putInt(yahtzeeGames);
+        for(long sum : fieldSums)
+            buffer.putLong(sum);
+    }
+
+    /**
+     * Reads statistics from a record.
+     *
+     * @param buffer The buffer positioned at the record.
+     * @return The statistics.
+     */
+    static PlayerStatistics read(ByteBuffer buffer) {
+        PlayerStatistics statistics = new PlayerStatistics();
+        statistics.games = buffer.getInt();
+        statistics.detailedGames = buffer.getInt();
+        statistics.bestScore = buffer.getInt();
+        statistics.bonusGames = buffer.getInt();
+        statistics.yahtzeeGames = buffer.getInt();
+        for(int field = 0; field < NUMBER_OF_FIELDS; field++)
+            statistics.fieldSums[field] = buffer.getLong();
+        return statistics;
+    }
+
+    /**
+     * Returns the number of recorded games.
+     *
+     * @return The number of games.
+     */
+    public int getGames() { return games; }
+
+    /**
+     * Returns the number of recorded games with a full score card.
+     *
+     * @return The number of games with a full score card.
+     */
+    public int getDetailedGames() { return detailedGames; }
+
+    /**
+     * Returns the best final total.
+     *
+     * @return The best final total, or -1 if there are no games.
+     */
+    public int getBestScore() { return bestScore; }
+
+    /**
+     * Calculates the average final total.
+     *
+     * @return The average final total, or 0 if there are no games.
+     */
+    public double getAverageScore() {
+        return games == 0 ? 0 : (double) fieldSums[FINAL_TOTAL] / games;
+    }
+
+    /**
+     * Calculates how often the upper section bonus was scored.
+     *
+     * @return The share of the games with a full score card in which the bonus was scored, or 0 if there are none.
+     */
+    public double getBonusRate() {
+        return detailedGames == 0 ? 0 : (double) bonusGames / detailedGames;
+    }
+
+    /**
+     * Calculates how often a Yahtzee was scored.
+     *
+     * @return The share of the games with a full score card in which a Yahtzee was scored, or 0 if there are none.
+     */
+    public double getYahtzeeRate() {
+        return detailedGames == 0 ? 0 : (double) yahtzeeGames / detailedGames;
+    }
+
+    /**
+     * Formats a rate of these statistics, such as {@link #getBonusRate()}, as a percentage.
+     *
+     * @param rate The rate, between 0 and 1.
+     * @return The percentage, or "-" if none of the games has a full score card.
+     */
+    public String formatRate(double rate) {
+        return detailedGames == 0 ? "-" : String.format("%.0f%%", 100 * rate);
+    }
+
+    /**
+     * Calculates the average value of a field over the games with a full score card.
+     *
+     * @param field Index of the field (0-16); the final total is averaged by {@link #getAverageScore()}.
+     * @return The average value, or 0 if there are no games with a full score card.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    public double getFieldAverage(int field) {
+        if(field < 0 || field >= FINAL_TOTAL)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        return detailedGames == 0 ? 0 : (double) fieldSums[field] / detailedGames;
+    }
+}
@@ -1,27 +1,31 @@
 package saveGame;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
 
 import logic.Logic;
-import score.Score;
 
 /**
  * Manages the saving and loading of game state to and from a file.
- * This class handles the serialization of player usernames and scores.
+ * Games are saved as binary {@link GameSnapshot}s holding the complete game and the turn in
+ * progress; saved games in the earlier text format of player usernames and scores can still be loaded.
+ * Games are usually saved in the {@link SaveGameCatalog}, which remembers the id of the game,
+ * so that saving the game again replaces the earlier save.
  */
 public class SaveGame {
     private Logic logic;
+    private volatile int gameId = -1;
+    private SaveGame origin;
+    private int currentPlayer;
+    private int throwsUsed;
     String[] playerUsernames;
 
     /**
@@ -37,30 +41,166 @@ public class SaveGame {
     public SaveGame(Logic logic1) { logic = logic1; }
 
     /**
-     * Saves the current game state to a specified file.
+     * Gets the game that is saved or was loaded.
+     * @return The game.
+     */
+    public Logic getLogic() { return logic; }
+
+    /**
+     * Gets the index of the player whose turn it is.
+     * @return The index of the current player.
+     */
+    public int getCurrentPlayer() { return currentPlayer; }
+
+    /**
+     * Gets the number of throws the current player has used in this turn.
+     * @return The number of throws (0-3); 0 if the turn has not started.
+     */
+    public int getThrowsUsed() { return throwsUsed; }
+
+    /**
+     * Sets the turn in progress, which is saved with the game.
+     * @param currentPlayer1 The index of the current player.
+     * @param throwsUsed1 The number of throws the current player has used (0-3).
+     * @throws IllegalArgumentException if the turn is out of range.
+     */
+    public void setTurn(int currentPlayer1, int throwsUsed1) {
+        if(currentPlayer1 < 0 || currentPlayer1 >= logic.getNumberOfPlayers())
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        if(throwsUsed1 < 0 || throwsUsed1 > 3)
+            throw new IllegalArgumentException("Invalid input: The number of throws must be between 0 and 3.");
+        currentPlayer = currentPlayer1;
+        throwsUsed = throwsUsed1;
+    }
+
+    /**
+     * Gets the id of the game in the catalog.
+     * @return The id, or -1 if the game has not been saved in or loaded from the catalog.
+     */
+    public int getGameId() { return gameId; }
+
+    /**
+     * Sets the id of the game in the catalog, such as for a game recovered from its journal.
+     * @param gameId1 The id, or -1 if the game has not been saved in the catalog.
+     */
+    void setGameId(int gameId1) { gameId = gameId1; }
+
+    /**
+     * Saves the game in the shared catalog, see {@link SaveGameCatalog#getInstance()}.
+     * @return The id of the saved game, or -1 if it could not be saved.
+     */
+    public int saveGame() { return saveGame(SaveGameCatalog.getInstance()); }
+
+    /**
+     * Saves the game in a catalog, replacing the earlier save of the game if there is one.
+     * @param catalog The catalog.
+     * @return The id of the saved game, or -1 if it could not be saved.
+     */
+    public int saveGame(SaveGameCatalog catalog) {
+        SaveGame target = origin != null ? origin : this;
+        int id = catalog.save(target.gameId, this);
+        if(id != -1) {
+            gameId = id;
+            target.gameId = id;
+        }
+        return id;
+    }
+
+    /**
+     * Copies the game and the turn in progress, so that the copy can be saved on another thread
+     * while the game continues. The copy is saved under the id of this game, and the id it is
+     * saved under becomes the id of this game, so saving copies one after another replaces one save.
+     * @return The copy.
+     */
+    public SaveGame copy() {
+        Logic copiedLogic;
+        try {
+            copiedLogic = GameSnapshot.decode(GameSnapshot.encode(logic, currentPlayer, throwsUsed)).getLogic();
+        } catch (IOException e) {
+            // A snapshot that was just encoded is valid.
+            throw new IllegalStateException(e);
+        }
+        SaveGame copy = new SaveGame(copiedLogic);
+        copy.playerUsernames = copiedLogic.getPlayers();
+        copy.currentPlayer = currentPlayer;
+        copy.throwsUsed = throwsUsed;
+        copy.gameId = gameId;
+        copy.origin = origin != null ? origin : this;
+        return copy;
+    }
+
+    /**
+     * Loads a game from the shared catalog, see {@link SaveGameCatalog#getInstance()}.
+     * @param id The id of the saved game.
+     */
+    public void loadGame(int id) { loadGame(SaveGameCatalog.getInstance(), id); }
+
+    /**
+     * Loads a game from a catalog; saving it again replaces this save.
+     * @param catalog The catalog.
+     * @param id The id of the saved game.
+     */
+    public void loadGame(SaveGameCatalog catalog, int id) {
+        loadGame(catalog.getFile(id).toString());
+        gameId = id;
+    }
+
+    /**
+     * Saves the current game state and the turn in progress to a specified file as a {@link GameSnapshot}.
+     * The snapshot is written to a temporary file that then replaces the file, so an interrupted
+     * save leaves the previous save intact.
      * @param filePath The path to the file where the game state will be saved.
      */
     public void saveGame(String filePath) {
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            String[] players = logic.getPlayers();
-            int[][] scores = logic.getScores();
-            
-            for(int i = 0; i < logic.getNumberOfPlayers(); i++) {
-                writer.write(players[i] + "\n"); 
-                for (int score : scores[i]) 
-                    writer.write(score + " "); 
-                writer.write("\n"); 
-            }
+        try {
+            writeSnapshot(Paths.get(filePath));
         } catch (IOException e) {
             e.printStackTrace(); 
         }
     }
 
     /**
-     * Loads game state from a specified file.
+     * Writes the current game state and the turn in progress to a file through a temporary file.
+     * @param path The path to the file where the game state will be saved.
+     * @throws IOException If the file cannot be written.
+     */
+    void writeSnapshot(Path path) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporaryPath, GameSnapshot.encode(logic, currentPlayer, throwsUsed));
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads game state from a specified file, a {@link GameSnapshot} or a game saved in the earlier text format.
+     * A game in the text format continues with the first player's turn.
      * @param filePath The path to the file from which the game state will be loaded.
      */
     public void loadGame(String filePath) {
+        try {
+            byte[] bytes = Files.readAllBytes(Paths.get(filePath));
+            if(GameSnapshot.isSnapshot(bytes)) {
+                GameSnapshot snapshot = GameSnapshot.decode(bytes);
+                logic = snapshot.getLogic();
+                playerUsernames = logic.getPlayers();
+                currentPlayer = snapshot.getCurrentPlayer();
+                throwsUsed = snapshot.getThrowsUsed();
+            } else 
+                loadTextGame(filePath);
+        } catch (IOException e) {
+            e.printStackTrace(); 
+        }
+    }
+
+    /**
+     * Loads game state from a file in the earlier text format: for every player a line with
+     * the username and a line with the scores of the fields, separated by spaces.
+     * @param filePath The path to the file from which the game state will be loaded.
+     */
+    private void loadTextGame(String filePath) {
         List<String> playerUsernamesList = new ArrayList<>();
         List<int[]> scoresList = new ArrayList<>();
         
@@ -86,173 +226,65 @@ public class SaveGame {
             playerUsernames = playerUsernames1;
             logic = new Logic(playerUsernames1);
             logic.setScores(scores);      
+            currentPlayer = 0;
+            throwsUsed = 0;
         } catch (IOException e) {
             e.printStackTrace(); 
         }
     }
 
-    /**
-     * Counts the number of files in a specified folder.
-     * @param folderPath The path to the folder to count files in.
-     * @return The number of files in the folder.
-     * @throws IOException If the folder does not exist or is not a directory.
-     */
-    public static long countFilesInFolder(Path folderPath) throws IOException {
-        if(!Files.exists(folderPath) || !Files.isDirectory(folderPath)) 
-            throw new IOException("The directory does not exist or is not a directory.");
-        
-        try(Stream<Path> paths = Files.walk(folderPath)) {
-            return paths.filter(Files::isRegularFile).count();
-        }
-    }
-
-    /**
-     * Gets the number of files in the "savedGames" directory.
-     * @return The number of files in the "savedGames" directory.
-     */
-    public long getNumberOfFiles() {
-        Path directoryPath = Paths.get("savedGames/");
-        try {
-            long fileCount = countFilesInFolder(directoryPath);
-            return fileCount;
-        } catch (IOException e) {
-            e.printStackTrace(); 
-        }
-        return 0;
-    }
-    
     /**
      * Saves the final scores of all players to a specified file. 
+     * The full score cards are recorded in the {@link Leaderboard} of the file, which appends
+     * the final totals to it and updates the statistics of every player.
      * 
      * @param filePath The path to the file where the scores will be saved.
      */
     public void saveFinalScores(String filePath) {
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true))) {
-            String[] players = logic.getPlayers();
-            int[][] scores = logic.getScores(); 
-            
-            for(int i = 0; i < players.length; i++) {
-                writer.write(players[i] + "\n"); 
-                int[] playerScore = scores[i];
-                writer.write(playerScore[17] + " "); 
-                writer.newLine(); 
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Leaderboard leaderboard = Leaderboard.getInstance(Paths.get(filePath));
+        String[] players = logic.getPlayers();
+        
+        for(int i = 0; i < players.length; i++)
+            leaderboard.add(players[i], logic.getPlayerScore(i));
     }
 
     /**
-     * Processes high scores by reading from a file, sorting the scores, and saving the sorted scores.
+     * Prepares the high scores of a file for display. The {@link Leaderboard} of the file keeps
+     * them ordered in memory, so the file is read once and never sorted or rewritten.
      * 
      * @param filePath The path to the file containing the high scores.
      */
     public void processHighScores(String filePath) {
-        List<String> playersList = new ArrayList<>();
-        List<Integer> scoresList = new ArrayList<>();
-        
-        try(BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            
-            while((line = reader.readLine()) != null) {
-                String username = line.trim();
-                playersList.add(username);
-                
-                line = reader.readLine();
-                String scoreString = line.trim();
-                scoresList.add(Integer.valueOf(scoreString));
-            }
-            
-            String[] playersArray = playersList.toArray(new String[0]);
-            int[] scoresArray = scoresList.stream().mapToInt(i -> i).toArray();
-            
-            sortByScores(playersArray, scoresArray);
-            
-            saveSortedScores(filePath, playersArray, scoresArray);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Sorts players and their scores in descending order based on scores.
-     * 
-     * @param players Array of player names.
-     * @param scores Array of player scores corresponding to the names.
-     */
-    private void sortByScores(String[] players, int[] scores) {
-        Integer[] indices = new Integer[scores.length];
-        for (int i = 0; i < indices.length; i++) 
-            indices[i] = i;
-
-        Arrays.sort(indices, (i1, i2) -> Integer.compare(scores[i2], scores[i1]));
-
-        String[] sortedPlayers = new String[players.length];
-        int[] sortedScores = new int[scores.length];
-        for (int i = 0; i < indices.length; i++) {
-            sortedPlayers[i] = players[indices[i]];
-            sortedScores[i] = scores[indices[i]];
-        }
-
-        System.arraycopy(sortedPlayers, 0, players, 0, players.length);
-        System.arraycopy(sortedScores, 0, scores, 0, scores.length);
-    }
-
-    /**
-     * Saves sorted player names and scores to a specified file.
-     * 
-     * @param filePath The path to the file where the sorted scores will be saved.
-     * @param players Array of sorted player names.
-     * @param scores Array of sorted scores corresponding to the player names.
-     */
-    private void saveSortedScores(String filePath, String[] players, int[] scores) {
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            for(int i = 0; i < players.length; i++) {
-                writer.write(players[i] + "\n");
-                writer.write(scores[i] + "\n");
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Leaderboard.getInstance(Paths.get(filePath));
     }
     
     /**
-     * Reads player names from the specified file.
+     * Reads player names from the specified file, best score first.
      *
      * @param filePath the path to the file containing the high scores
-     * @return an array of player names, or an empty array if an error occurs
+     * @return an array of player names, or an empty array if there are no high scores
      */
     public String[] getPlayerNames(String filePath) {
-        List<String> playerNames = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                playerNames.add(line.trim());
-                reader.readLine(); 
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return playerNames.toArray(new String[0]);
+        Leaderboard leaderboard = Leaderboard.getInstance(Paths.get(filePath));
+        int[] entries = leaderboard.getTop(leaderboard.size());
+        String[] playerNames = new String[entries.length];
+        for(int i = 0; i < entries.length; i++)
+            playerNames[i] = leaderboard.getPlayer(entries[i]);
+        return playerNames;
     }
 
     /**
-     * Reads player scores from the specified file.
+     * Reads player scores from the specified file, best score first.
      *
      * @param filePath the path to the file containing the high scores
-     * @return an array of player scores, or an empty array if an error occurs
+     * @return an array of player scores, or an empty array if there are no high scores
      */
     public int[] getPlayerScores(String filePath) {
-        List<Integer> playerScores = new ArrayList<>();
-        try(BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while((line = reader.readLine()) != null) {
-                line = reader.readLine();
-                playerScores.add(line != null ? Integer.parseInt(line.trim()) : 0);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return playerScores.stream().mapToInt(Integer::intValue).toArray();
+        Leaderboard leaderboard = Leaderboard.getInstance(Paths.get(filePath));
+        int[] entries = leaderboard.getTop(leaderboard.size());
+        int[] playerScores = new int[entries.length];
+        for(int i = 0; i < entries.length; i++)
+            playerScores[i] = leaderboard.getScore(entries[i]);
+        return playerScores;
     }
 }
@@ -0,0 +1,296 @@
+package saveGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import logic.Logic;
+
+/**
+ * Keeps any number of saved games in a directory, one file per game, and lists them through an
+ * index file so that the saved games never have to be opened or the directory walked.
+ *
+ * The index is an append-only text file with one line per save: the id of the game, the time
+ * of the save, the number of completed rounds and the names of the players, separated by tabs.
+ * A later line for the same id replaces the earlier one. Saves take an exclusive lock on the
+ * index while they pick an id, write the game file and append their line, so sessions running
+ * at the same time, also in other processes, never pick the same id. Every operation first
+ * reads the lines appended since the last one, so the index is read in full only once.
+ *
+ * Games are saved as binary snapshots in files named game_id.sav. When the index does not exist
+ * yet, the game files already in the directory, such as the three text slots game_1.txt to
+ * game_3.txt of earlier versions, are added to it once. Saving such a game again replaces its
+ * text file with a snapshot.
+ */
+public final class SaveGameCatalog {
+    /**
+     * Directory of the saved games shared by all games.
+     */
+    public static final Path DEFAULT_DIRECTORY = Paths.get("savedGames");
+
+    private static final String INDEX_FILE = "index.txt";
+    private static final String GAME_FILE_PREFIX = "game_";
+    private static final String GAME_FILE_SUFFIX = ".sav";
+    private static final String TEXT_GAME_FILE_SUFFIX = ".txt";
+
+    private static final Map<Path, SaveGameCatalog> instances = new HashMap<>();
+
+    private final Path directory;
+    private final Path indexPath;
+    private final LinkedHashMap<Integer, CatalogEntry> entries = new LinkedHashMap<>();
+    private long indexLength;
+    private int nextId = 1;
+
+    /**
+     * Constructor creating the catalog of a directory.
+     *
+     * @param directory1 The directory of the saved games.
+     */
+    private SaveGameCatalog(Path directory1) {
+        directory = directory1;
+        indexPath = directory.resolve(INDEX_FILE);
+    }
+
+    /**
+     * Returns the catalog of the shared directory, see {@link #DEFAULT_DIRECTORY}.
+     *
+     * @return The catalog.
+     */
+    public static SaveGameCatalog getInstance() { return getInstance(DEFAULT_DIRECTORY); }
+
+    /**
+     * Returns the catalog of a directory.
+     *
+     * @param directory The directory of the saved games.
+     * @return The catalog.
+     */
+    public static synchronized SaveGameCatalog getInstance(Path directory) {
+        Path key = directory.toAbsolutePath().normalize();
+        SaveGameCatalog catalog = instances.get(key);
+        if(catalog == null) {
+            catalog = new SaveGameCatalog(directory);
+            instances.put(key, catalog);
+        }
+        return catalog;
+    }
+
+    /**
+     * Gets the file a saved game is stored in.
+     *
+     * @param id The id of the saved game.
+     * @return The path of the snapshot of the game, or of its text file if it was saved by an earlier version and not since.
+     */
+    public Path getFile(int id) {
+        Path file = directory.resolve(GAME_FILE_PREFIX + id + GAME_FILE_SUFFIX);
+        Path textFile = directory.resolve(GAME_FILE_PREFIX + id + TEXT_GAME_FILE_SUFFIX);
+        return !Files.exists(file) && Files.exists(textFile) ? textFile : file;
+    }
+
+    /**
+     * Lists the saved games.
+     *
+     * @return The entries of the saved games, the most recently saved first.
+     */
+    public synchronized List<CatalogEntry> getEntries() {
+        try(FileChannel channel = openIndex()) {
+            refresh(channel);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        List<CatalogEntry> list = new ArrayList<>(entries.values());
+        Collections.reverse(list);
+        return list;
+    }
+
+    /**
+     * Gets the entry of a saved game.
+     *
+     * @param id The id of the saved game.
+     * @return The entry, or null if there is no saved game with this id.
+     */
+    public synchronized CatalogEntry getEntry(int id) {
+        try(FileChannel channel = openIndex()) {
+            refresh(channel);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return entries.get(id);
+    }
+
+    /**
+     * Writes a game to its file and records it in the index.
+     *
+     * @param id The id of the saved game to replace, or -1 to save the game under a new id.
+     * @param saveGame The game to save.
+     * @return The id of the saved game, or -1 if it could not be saved.
+     */
+    synchronized int save(int id, SaveGame saveGame) {
+        try(FileChannel channel = openIndex()) {
+            refresh(channel);
+            if(id <= 0)
+                id = nextId++;
+            saveGame.writeSnapshot(directory.resolve(GAME_FILE_PREFIX + id + GAME_FILE_SUFFIX));
+            Files.deleteIfExists(directory.resolve(GAME_FILE_PREFIX + id + TEXT_GAME_FILE_SUFFIX));
+
+            Logic logic = saveGame.getLogic();
+            CatalogEntry entry = new CatalogEntry(id, System.currentTimeMillis(), logic.getRound(), logic.getPlayers());
+            append(channel, entry);
+            return id;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return -1;
+    }
+
+    /**
+     * Opens the index and locks it, creating it from the game files in the directory if it does not exist.
+     * The lock is released when the channel is closed.
+     *
+     * @return The channel of the index.
+     * @throws IOException If the index cannot be opened or created.
+     */
+    private FileChannel openIndex() throws IOException {
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            channel.lock();
+            if(channel.size() == 0)
+                migrate(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Adds the game files of the directory to an empty index, in the order they were last modified.
+     *
+     * @param channel The channel of the index.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private void migrate(FileChannel channel) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try(Stream<Path> paths = Files.list(directory)) {
+            paths.filter(path -> parseId(path.getFileName().toString()) > 0).forEach(files::add);
+        }
+        Map<Path, Long> timestamps = new HashMap<>();
+        for(Path file : files)
+            timestamps.put(file, Files.getLastModifiedTime(file).toMillis());
+        files.sort((a, b) -> Long.compare(timestamps.get(a), timestamps.get(b)));
+
+        for(Path file : files) {
+            SaveGame saveGame = new SaveGame(new Logic());
+            saveGame.loadGame(file.toString());
+            Logic logic = saveGame.getLogic();
+            append(channel, new CatalogEntry(parseId(file.getFileName().toString()), timestamps.get(file), logic.getRound(), logic.getPlayers()));
+        }
+    }
+
+    /**
+     * Finds the id of a game file from its name.
+     *
+     * @param fileName The name of the file.
+     * @return The id, or -1 if the name is not the name of a game file.
+     */
+    private static int parseId(String fileName) {
+        if(!fileName.startsWith(GAME_FILE_PREFIX) || !(fileName.endsWith(GAME_FILE_SUFFIX) || fileName.endsWith(TEXT_GAME_FILE_SUFFIX)))
+            return -1;
+        try {
+            return Integer.parseInt(fileName.substring(GAME_FILE_PREFIX.length(), fileName.length() - 4));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the complete lines appended to the index since it was last read.
+     *
+     * @param channel The channel of the index.
+     * @throws IOException If the index cannot be read.
+     */
+    private void refresh(FileChannel channel) throws IOException {
+        long length = channel.size();
+        if(length <= indexLength)
+            return;
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) (length - indexLength));
+        while(buffer.hasRemaining() && channel.read(buffer, indexLength + buffer.position()) >= 0);
+        byte[] bytes = buffer.array();
+        int lineStart = 0;
+        for(int i = 0; i < buffer.position(); i++) {
+            if(bytes[i] == '\n') {
+                parseLine(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                lineStart = i + 1;
+            }
+        }
+        indexLength += lineStart;
+    }
+
+    /**
+     * Records an entry of the index.
+     *
+     * @param line The line of the entry: id, timestamp, round and players, separated by tabs.
+     */
+    private void parseLine(String line) {
+        String[] parts = line.split("\t", -1);
+        if(parts.length < 4)
+            return;
+        try {
+            int id = Integer.parseInt(parts[0]);
+            String[] players = new String[parts.length - 3];
+            System.arraycopy(parts, 3, players, 0, players.length);
+            put(new CatalogEntry(id, Long.parseLong(parts[1]), Integer.parseInt(parts[2]), players));
+        } catch (NumberFormatException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Appends an entry to the index and records it.
+     *
+     * @param channel The channel of the index, after the lines written by others have been read.
+     * @param entry The entry.
+     * @throws IOException If the index cannot be written.
+     */
+    private void append(FileChannel channel, CatalogEntry entry) throws IOException {
+        StringBuilder line = new StringBuilder();
+        // A line cut off by an interrupted save is ended, so that it is skipped as invalid.
+        if(channel.size() > indexLength)
+            line.append('\n');
+        line.append(entry.getId()).append('\t').append(entry.getTimestamp()).append('\t').append(entry.getRound());
+        for(String player : entry.getPlayers())
+            line.append('\t').append(player.replace('\t', ' ').replace('\n', ' '));
+        line.append('\n');
+
+        ByteBuffer buffer = ByteBuffer.wrap(line.toString().getBytes(StandardCharsets.UTF_8));
+        long position = channel.size();
+        while(buffer.hasRemaining())
+            position += channel.write(buffer, position);
+        indexLength = position;
+        put(entry);
+    }
+
+    /**
+     * Records an entry as the most recent one, replacing an earlier entry with the same id.
+     *
+     * @param entry The entry.
+     */
+    private void put(CatalogEntry entry) {
+        entries.remove(entry.getId());
+        entries.put(entry.getId(), entry);
+        nextId = Math.max(nextId, entry.getId() + 1);
+    }
+}
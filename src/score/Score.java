@@ -2,28 +2,15 @@ package score;
 
 /**
  * Represents the score for a Yahtzee game. Includes scores for various categories and methods to access and modify them.
+ * 
+ * A score is a view of one row of a {@link ScoreBoard}, which keeps the 18 field values, in the order of
+ * {@link #getFieldNames()}, next to a bitmask of the filled fields and running totals of the filled upper and
+ * lower section categories. Checking whether a section or the whole card is filled is therefore a single bit
+ * operation, and the section totals never need to be summed. A score created on its own has a board of one row.
  */
 public class Score {
-    String player;
-    
-    private int aces;
-    private int twos;
-    private int threes;
-    private int fours;
-    private int fives;
-    private int sixes;
-    private int totalWithoutBonus;
-    private int bonus;
-    private int finalUpperTotal;
-    private int threeOfAKind;
-    private int fourOfAKind;
-    private int fullHouse;
-    private int smallStraight;
-    private int largeStraight;
-    private int yahtzee;
-    private int chance;
-    private int finalLowerTotal;
-    private int finalTotal;
+    private final ScoreBoard board;
+    private final int row;
 
     /**
      * Default constructor initializing the player to an empty string.
@@ -38,58 +25,49 @@ public class Score {
      * @param player1 Username of the player.
      */
     public Score(String player1) {
-        player = player1;
-        init();
+        this(new ScoreBoard(1), 0);
+        board.setPlayer(row, player1);
+    }
+
+    /**
+     * Constructor creating a view of one row of a board.
+     * 
+     * @param board1 The board holding the scores.
+     * @param row1 Index of the player on the board.
+     */
+    Score(ScoreBoard board1, int row1) {
+        board = board1;
+        row = row1;
     }
 
     /**
      * Sets the score for all categories.
      * 
-     * @param score An array containing scores for each category.
+     * @param score An array containing scores for each of the 18 fields, in the order of {@link #getFieldValues()}.
      */
     public void setScore(int[] score) {
-        aces = score[0];
-        twos = score[1];
-        threes = score[2];
-        fours = score[3];
-        fives = score[4];
-        sixes = score[5];
-        totalWithoutBonus = score[6];
-        bonus = score[7];
-        finalUpperTotal = score[8];
-        threeOfAKind = score[9];
-        fourOfAKind = score[10];
-        fullHouse = score[11];
-        smallStraight = score[12];
-        largeStraight = score[13];
-        yahtzee = score[14];
-        chance = score[14];
-        finalLowerTotal = score[15];
-        finalTotal = score[16];
+        for (int i = ScoreBoard.ACES; i <= ScoreBoard.FINAL_TOTAL; i++)
+            store(i, score[i]);
     }
 
     /**
-     * Initializes all scores to -1, indicating they have not been set.
+     * Stores the value of a field on the board.
+     * 
+     * @param field Index of the field (0-17).
+     * @param value The new value; -1 marks the field as empty.
      */
-    private void init() {
-        aces = -1;
-        twos = -1;
-        threes = -1;
-        fours = -1;
-        fives = -1;
-        sixes = -1;
-        totalWithoutBonus = -1;
-        bonus = -1;
-        finalUpperTotal = -1;
-        threeOfAKind = -1;
-        fourOfAKind = -1;
-        fullHouse = -1;
-        smallStraight = -1;
-        largeStraight = -1;
-        yahtzee = -1;
-        chance = -1;
-        finalLowerTotal = -1;
-        finalTotal = -1;
+    private void store(int field, int value) {
+        board.store(row, field, value);
+    }
+
+    /**
+     * Checks if a field has been filled.
+     * 
+     * @param field Index of the field (0-17).
+     * @return true if the field is filled; false otherwise.
+     */
+    private boolean isFilled(int field) {
+        return (board.getFilled(row) & (1 << field)) != 0;
     }
 
 	/**
@@ -97,7 +75,7 @@ public class Score {
 	 * 
 	 * @return the name of the player.
 	 */
-    public String getPlayer() { return player; }
+    public String getPlayer() { return board.getPlayer(row); }
     
     /**
      * Sets the player's name if it has not already been set.
@@ -110,7 +88,7 @@ public class Score {
             if (player1 == null || player1.isEmpty()) {
                 throw new IllegalArgumentException("Invalid input: name must be non-null and not empty.");
             }
-            player = player1;
+            board.setPlayer(row, player1);
         } else {
             throw new IllegalArgumentException("Invalid input: The name for 'Player' has already been set and cannot be changed.");
         }
@@ -121,7 +99,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Aces'.
 	 */
-	public int getAces() { return aces; }
+	public int getAces() { return board.get(row, ScoreBoard.ACES); }
     
     /**
      * Sets the score for 'Aces' if it has not already been set.
@@ -130,8 +108,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setAces(int aces1) {
-        if (getAces() == -1) {
-            aces = aces1;
+        if (!isFilled(ScoreBoard.ACES)) {
+            store(ScoreBoard.ACES, aces1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Aces' has already been set and cannot be changed.");
         }
@@ -142,7 +120,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Twos'.
 	 */
-    public int getTwos() { return twos; }
+    public int getTwos() { return board.get(row, ScoreBoard.TWOS); }
     
     /**
      * Sets the score for 'Twos' if it has not already been set.
@@ -151,8 +129,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setTwos(int twos1) {
-        if (getTwos() == -1) {
-            twos = twos1;
+        if (!isFilled(ScoreBoard.TWOS)) {
+            store(ScoreBoard.TWOS, twos1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Twos' has already been set and cannot be changed.");
         }
@@ -163,7 +141,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Threes'.
 	 */
-    public int getThrees() { return threes; }
+    public int getThrees() { return board.get(row, ScoreBoard.THREES); }
     
     /**
      * Sets the score for 'Threes' if it has not already been set.
@@ -172,8 +150,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setThrees(int threes1) {
-        if (getThrees() == -1) {
-            threes = threes1;
+        if (!isFilled(ScoreBoard.THREES)) {
+            store(ScoreBoard.THREES, threes1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Threes' has already been set and cannot be changed.");
         }
@@ -184,7 +162,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Fours'.
 	 */
-    public int getFours() { return fours; }
+    public int getFours() { return board.get(row, ScoreBoard.FOURS); }
     
     /**
      * Sets the score for 'Fours' if it has not already been set.
@@ -193,8 +171,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setFours(int fours1) {
-        if (getFours() == -1) {
-            fours = fours1;
+        if (!isFilled(ScoreBoard.FOURS)) {
+            store(ScoreBoard.FOURS, fours1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Fours' has already been set and cannot be changed.");
         }
@@ -205,7 +183,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Fives'.
 	 */
-    public int getFives() { return fives; }
+    public int getFives() { return board.get(row, ScoreBoard.FIVES); }
     
     /**
      * Sets the score for 'Fives' if it has not already been set.
@@ -214,8 +192,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setFives(int fives1) {
-        if (getFives() == -1) {
-            fives = fives1;
+        if (!isFilled(ScoreBoard.FIVES)) {
+            store(ScoreBoard.FIVES, fives1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Fives' has already been set and cannot be changed.");
         }
@@ -226,7 +204,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Sixes'.
 	 */
-    public int getSixes() { return sixes; }
+    public int getSixes() { return board.get(row, ScoreBoard.SIXES); }
     
     /**
      * Sets the score for 'Sixes' if it has not already been set.
@@ -235,8 +213,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setSixes(int sixes1) {
-        if (getSixes() == -1) {
-            sixes = sixes1;
+        if (!isFilled(ScoreBoard.SIXES)) {
+            store(ScoreBoard.SIXES, sixes1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Sixes' has already been set and cannot be changed.");
         }
@@ -248,16 +226,16 @@ public class Score {
      * @return true if all upper section scores are set; false otherwise.
      */
     public boolean isUpperSectionFilled() {
-        return (getAces() != -1) && (getTwos() != -1) && (getThrees() != -1) && (getFours() != -1) && (getFives() != -1) && (getSixes() != -1);
+        return (board.getFilled(row) & ScoreBoard.UPPER_SECTION) == ScoreBoard.UPPER_SECTION;
     }
 
     /**
-     * Calculates the total score for the upper section.
+     * Returns the running total of the filled upper section fields.
      * 
-     * @return The sum of all upper section scores.
+     * @return The sum of the filled upper section scores.
      */
-    private int calculateUpperSectionTotal() {
-        return getAces() + getTwos() + getThrees() + getFours() + getFives() + getSixes();
+    public int getUpperSectionTotal() {
+        return board.getUpperSectionTotal(row);
     }
 
 	/**
@@ -265,7 +243,7 @@ public class Score {
 	 * 
 	 * @return the final total of upper section without bonus.
 	 */
-    public int getTotalWithoutBonus() { return totalWithoutBonus; }
+    public int getTotalWithoutBonus() { return board.get(row, ScoreBoard.TOTAL_WITHOUT_BONUS); }
     
     /**
      * Sets the total score without bonus if it has not already been set.
@@ -273,8 +251,8 @@ public class Score {
      * @throws IllegalArgumentException if the total has already been set.
      */
     public void setTotalWithoutBonus() {
-        if (getTotalWithoutBonus() == -1) {
-            totalWithoutBonus = calculateUpperSectionTotal();
+        if (!isFilled(ScoreBoard.TOTAL_WITHOUT_BONUS)) {
+            store(ScoreBoard.TOTAL_WITHOUT_BONUS, getUpperSectionTotal());
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Total without bonus' has already been set and cannot be changed.");
         }
@@ -285,7 +263,7 @@ public class Score {
 	 * 
 	 * @return the bonus points.
 	 */
-	public int getBonus() { return bonus; }
+	public int getBonus() { return board.get(row, ScoreBoard.BONUS); }
     
     /**
      * Sets the bonus score if it has not already been set. A bonus is awarded if the total without bonus is 63 or more.
@@ -293,11 +271,12 @@ public class Score {
      * @throws IllegalArgumentException if the bonus has already been set.
      */
     public void setBonus() {
-        if(getBonus() == -1) {
+        if(!isFilled(ScoreBoard.BONUS)) {
             if(getTotalWithoutBonus() >= 63) {
-                bonus = 35;
+                store(ScoreBoard.BONUS, 35);
+            } else {
+                store(ScoreBoard.BONUS, -2);
             }
-            bonus = -2;
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Bonus' has already been set and cannot be changed.");
         }
@@ -308,7 +287,7 @@ public class Score {
 	 * 
 	 * @return the final total of upper section.
 	 */
-    public int getFinalUpperTotal() { return finalUpperTotal; }
+    public int getFinalUpperTotal() { return board.get(row, ScoreBoard.FINAL_UPPER_TOTAL); }
     
     /**
      * Sets the final upper section total if it has not already been set.
@@ -316,12 +295,12 @@ public class Score {
      * @throws IllegalArgumentException if the final upper total has already been set.
      */
     public void setFinalUpperTotal() {
-        if (getFinalUpperTotal() == -1) {
+        if (!isFilled(ScoreBoard.FINAL_UPPER_TOTAL)) {
             int bonus = getBonus();
             if (bonus == -2) {
-                finalUpperTotal = getTotalWithoutBonus();
+                store(ScoreBoard.FINAL_UPPER_TOTAL, getTotalWithoutBonus());
             } else {
-                finalUpperTotal = getTotalWithoutBonus() + bonus;
+                store(ScoreBoard.FINAL_UPPER_TOTAL, getTotalWithoutBonus() + bonus);
             }
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Final upper section total' has already been set and cannot be changed.");
@@ -333,7 +312,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Three of a Kind'.
 	 */
-	public int getThreeOfAKind() { return threeOfAKind; }
+	public int getThreeOfAKind() { return board.get(row, ScoreBoard.THREE_OF_A_KIND); }
 
     /**
      * Sets the score for 'Three of a Kind' if it has not already been set.
@@ -342,8 +321,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setThreeOfAKind(int threeOfAKind1) {
-        if (getThreeOfAKind() == -1) {
-            threeOfAKind = threeOfAKind1;
+        if (!isFilled(ScoreBoard.THREE_OF_A_KIND)) {
+            store(ScoreBoard.THREE_OF_A_KIND, threeOfAKind1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Three of a kind' has already been set and cannot be changed.");
         }
@@ -354,7 +333,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Four of a Kind'.
 	 */
-    public int getFourOfAKind() { return fourOfAKind; }
+    public int getFourOfAKind() { return board.get(row, ScoreBoard.FOUR_OF_A_KIND); }
     
     /**
      * Sets the score for 'Four of a Kind' if it has not already been set.
@@ -363,8 +342,8 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setFourOfAKind(int fourOfAKind1) {
-        if (getFourOfAKind() == -1) {
-            fourOfAKind = fourOfAKind1;
+        if (!isFilled(ScoreBoard.FOUR_OF_A_KIND)) {
+            store(ScoreBoard.FOUR_OF_A_KIND, fourOfAKind1);
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Four of a kind' has already been set and cannot be changed.");
         }
@@ -375,7 +354,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Full House'.
 	 */
-    public int getFullHouse() { return fullHouse; }
+    public int getFullHouse() { return board.get(row, ScoreBoard.FULL_HOUSE); }
     
     /**
      * Sets the score for 'Full House' if it has not already been set.
@@ -384,11 +363,11 @@ public class Score {
      * @throws IllegalArgumentException if the score has already been set.
      */
     public void setFullHouse(int fullHouse1) {
-        if (getFullHouse() == -1) {
+        if (!isFilled(ScoreBoard.FULL_HOUSE)) {
             if (fullHouse1 == 0) {
-                fullHouse = 0;
+                store(ScoreBoard.FULL_HOUSE, 0);
             } else {
-                fullHouse = 25;
+                store(ScoreBoard.FULL_HOUSE, 25);
             }
         } else {
             throw new IllegalArgumentException("Invalid input: The value for 'Full house' has already been set and cannot be changed.");
@@ -400,7 +379,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Small Straight'. Returns 0 if not set, otherwise 30.
 	 */
-	public int getSmallStraight() { return smallStraight; }
+	public int getSmallStraight() { return board.get(row, ScoreBoard.SMALL_STRAIGHT); }
 
 	/**
 	 * Sets the score for the 'Small Straight' category if it has not already been set.
@@ -409,11 +388,11 @@ public class Score {
 	 * @throws IllegalArgumentException if the score has already been set.
 	 */
 	public void setSmallStraight(int smallStraight1) {
-		if (getSmallStraight() == -1) {
+		if (!isFilled(ScoreBoard.SMALL_STRAIGHT)) {
 			if (smallStraight1 == 0)
-				smallStraight = 0;
+				store(ScoreBoard.SMALL_STRAIGHT, 0);
 			else
-				smallStraight = 30;
+				store(ScoreBoard.SMALL_STRAIGHT, 30);
 		} else {
 			throw new IllegalArgumentException("Invalid input: The value for 'Small straight' has already been set and cannot be changed.");
 		}
@@ -424,7 +403,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Large Straight'. Returns 0 if not set, otherwise 40.
 	 */
-	public int getLargeStraight() { return largeStraight; }
+	public int getLargeStraight() { return board.get(row, ScoreBoard.LARGE_STRAIGHT); }
 
 	/**
 	 * Sets the score for the 'Large Straight' category if it has not already been set.
@@ -433,11 +412,11 @@ public class Score {
 	 * @throws IllegalArgumentException if the score has already been set.
 	 */
 	public void setLargeStraight(int largeStraight1) {
-		if (getLargeStraight() == -1) {
+		if (!isFilled(ScoreBoard.LARGE_STRAIGHT)) {
 			if (largeStraight1 == 0)
-				largeStraight = 0;
+				store(ScoreBoard.LARGE_STRAIGHT, 0);
 			else
-				largeStraight = 40;
+				store(ScoreBoard.LARGE_STRAIGHT, 40);
 		} else {
 			throw new IllegalArgumentException("Invalid input: The value for 'Large straight' has already been set and cannot be changed.");
 		}
@@ -448,7 +427,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Yahtzee'. Returns 0 if not set or 50 for the first Yahtzee, and 100 for additional Yahtzees.
 	 */
-	public int getYahtzee() { return yahtzee; }
+	public int getYahtzee() { return board.get(row, ScoreBoard.YAHTZEE); }
 
 	/**
 	 * Sets the score for the 'Yahtzee' category. Adds 100 points for additional Yahtzees after the first.
@@ -458,12 +437,12 @@ public class Score {
 	 */
 	public void setYahtzee(int yahtzee1) {
 		if (yahtzee1 == 50) {
-			if (getYahtzee() == -1) 
-				yahtzee = 50;
+			if (!isFilled(ScoreBoard.YAHTZEE)) 
+				store(ScoreBoard.YAHTZEE, 50);
 			else 
-				yahtzee += 100;
+				store(ScoreBoard.YAHTZEE, getYahtzee() + 100);
 		} else {
-			yahtzee = 0;
+			store(ScoreBoard.YAHTZEE, 0);
 		}
 	}
 
@@ -472,7 +451,7 @@ public class Score {
 	 * 
 	 * @return the score for 'Chance'.
 	 */
-	public int getChance() { return chance; }
+	public int getChance() { return board.get(row, ScoreBoard.CHANCE); }
 
 	/**
 	 * Sets the score for the 'Chance' category if it has not already been set.
@@ -481,8 +460,8 @@ public class Score {
 	 * @throws IllegalArgumentException if the score has already been set.
 	 */
 	public void setChance(int chance1) {
-		if (getChance() == -1) 
-			chance = chance1;
+		if (!isFilled(ScoreBoard.CHANCE)) 
+			store(ScoreBoard.CHANCE, chance1);
 		else 
 			throw new IllegalArgumentException("Invalid input: The value for 'Chance' has already been set and cannot be changed.");
 	}
@@ -493,19 +472,16 @@ public class Score {
 	 * @return true if all fields in the lower section are filled, false otherwise.
 	 */
 	public boolean isLowerSectionFilled() {
-		return (getThreeOfAKind() != -1) && (getFourOfAKind() != -1) && (getFullHouse() != -1) &&
-			(getSmallStraight() != -1) && (getLargeStraight() != -1) && (getChance() != -1) &&
-			(getYahtzee() != -1);
+		return (board.getFilled(row) & ScoreBoard.LOWER_SECTION) == ScoreBoard.LOWER_SECTION;
 	}
 
 	/**
-	 * Calculates the total score for the lower section by summing up all individual category scores.
+	 * Returns the running total of the filled lower section fields.
 	 * 
-	 * @return the total score for the lower section.
+	 * @return the sum of the filled lower section scores.
 	 */
-	private int calculateLowerSectionTotal() {
-		return getThreeOfAKind() + getFourOfAKind() + getFullHouse() +
-			getSmallStraight() + getLargeStraight() + getChance() + getYahtzee();
+	public int getLowerSectionTotal() {
+		return board.getLowerSectionTotal(row);
 	}
 
 	/**
@@ -513,7 +489,7 @@ public class Score {
 	 * 
 	 * @return the final total score for the lower section.
 	 */
-	public int getFinalLowerTotal() { return finalLowerTotal; }
+	public int getFinalLowerTotal() { return board.get(row, ScoreBoard.FINAL_LOWER_TOTAL); }
 
 	/**
 	 * Sets the final total score for the lower section if it has not already been set.
@@ -521,8 +497,8 @@ public class Score {
 	 * @throws IllegalArgumentException if the final lower total has already been set.
 	 */
 	public void setFinalLowerTotal() { 
-		if (getFinalLowerTotal() == -1) {
-			finalLowerTotal = calculateLowerSectionTotal(); 
+		if (!isFilled(ScoreBoard.FINAL_LOWER_TOTAL)) {
+			store(ScoreBoard.FINAL_LOWER_TOTAL, getLowerSectionTotal()); 
 		} else {
 			throw new IllegalArgumentException("Invalid input: The value for 'Final lower section total' has already been set and cannot be changed.");
 		}
@@ -533,7 +509,7 @@ public class Score {
 	 * 
 	 * @return the final total score for the entire game.
 	 */
-	public int getFinalTotal() { return finalTotal; }
+	public int getFinalTotal() { return board.get(row, ScoreBoard.FINAL_TOTAL); }
 
 	/**
 	 * Sets the final total score for the entire game if it has not already been set.
@@ -541,8 +517,8 @@ public class Score {
 	 * @throws IllegalArgumentException if the final total has already been set.
 	 */
 	public void setFinalTotal() { 
-		if (getFinalTotal() == -1) 
-			finalTotal = getFinalUpperTotal() + getFinalLowerTotal();
+		if (!isFilled(ScoreBoard.FINAL_TOTAL)) 
+			store(ScoreBoard.FINAL_TOTAL, getFinalUpperTotal() + getFinalLowerTotal());
 		else 
 			throw new IllegalArgumentException("Invalid input: The value for 'Final total' has already been set and cannot be changed.");
 	}
@@ -553,42 +529,40 @@ public class Score {
 	 * @return an array where each element corresponds to a specific field; a value of 1 indicates the field is empty.
 	 */
 	public int[] emptyFields() {
-		int[] emptyFields = new int[18];
-		
-		if (aces == -1) emptyFields[0] = 1;
-		if (twos == -1) emptyFields[1] = 1;
-		if (threes == -1) emptyFields[2] = 1;
-		if (fours == -1) emptyFields[3] = 1;
-		if (fives == -1) emptyFields[4] = 1;
-		if (sixes == -1) emptyFields[5] = 1;
-		if (totalWithoutBonus == -1) emptyFields[6] = 1;
-		if (bonus == -1) emptyFields[7] = 1;
-		if (finalUpperTotal == -1) emptyFields[8] = 1;
-		if (threeOfAKind == -1) emptyFields[9] = 1;
-		if (fourOfAKind == -1) emptyFields[10] = 1;
-		if (fullHouse == -1) emptyFields[11] = 1;
-		if (smallStraight == -1) emptyFields[12] = 1;
-		if (largeStraight == -1) emptyFields[13] = 1;
-		if (yahtzee == -1) emptyFields[14] = 1;
-		if (chance == -1) emptyFields[15] = 1;
-		if (finalLowerTotal == -1) emptyFields[16] = 1;
-		if (finalTotal == -1) emptyFields[17] = 1;
+		int[] emptyFields = new int[ScoreBoard.NUMBER_OF_FIELDS];
+		emptyFields(emptyFields);
+		return emptyFields;
+	}
 
+	/**
+	 * Fills a caller-supplied array with the fields that have not yet been filled.
+	 * 
+	 * @param emptyFields an array of at least 18 elements; a value of 1 is written for every empty field, 0 otherwise.
+	 * @return the given array.
+	 */
+	public int[] emptyFields(int[] emptyFields) {
+		int mask = board.getEmptyFieldsMask(row);
+		for (int i = 0; i < ScoreBoard.NUMBER_OF_FIELDS; i++) 
+			emptyFields[i] = (mask >>> i) & 1;
 		return emptyFields;
 	}
 
+	/**
+	 * Returns a bitmask of the fields that have not yet been filled.
+	 * 
+	 * @return a bitmask where bit i is set if field i is empty.
+	 */
+	public int emptyFieldsMask() {
+		return board.getEmptyFieldsMask(row);
+	}
+
 	/**
 	 * Checks if all fields in the scorecard are filled.
 	 * 
 	 * @return true if all fields are filled, false otherwise.
 	 */
 	public boolean areFieldsFilled() {
-		int[] fieldValues = getFieldValues();
-		
-		for (int value : fieldValues) 
-			if (value == -1) 
-				return false; 
-		return true; 
+		return board.isFinished(row); 
 	}
 
 	/**
@@ -612,12 +586,16 @@ public class Score {
 	 * @return an array of field values as integers.
 	 */
 	public int[] getFieldValues() {
-		return new int[] {
-			getAces(), getTwos(), getThrees(), getFours(), getFives(), getSixes(),
-			getTotalWithoutBonus(), getBonus(), getFinalUpperTotal(),
-			getThreeOfAKind(), getFourOfAKind(), getFullHouse(),
-			getSmallStraight(), getLargeStraight(), getYahtzee(), getChance(), 
-			getFinalLowerTotal(), getFinalTotal()
-		};
+		return getFieldValues(new int[ScoreBoard.NUMBER_OF_FIELDS]);
+	}
+
+	/**
+	 * Fills a caller-supplied array with the field values.
+	 * 
+	 * @param fieldValues an array of at least 18 elements that receives the field values.
+	 * @return the given array.
+	 */
+	public int[] getFieldValues(int[] fieldValues) {
+		return board.getFieldValues(row, fieldValues);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,303 @@
+package score;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Stores the score cards of all players of a game in columns: one primitive array per field,
+ * indexed by player, next to arrays of the filled-field bitmasks and the running section totals.
+ *
+ * A {@link Score} is a view of one row of a board, so the per-player API is unchanged, while
+ * operations over all players, such as finding the best final total, scan one contiguous array.
+ * Boards with at least {@link #PARALLEL_THRESHOLD} players are scanned in parallel.
+ */
+public final class ScoreBoard {
+    /**
+     * Number of fields of a score card.
+     */
+    public static final int NUMBER_OF_FIELDS = 18;
+
+    /**
+     * Number of players from which scans over all players run in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    static final int ACES = 0;
+    static final int TWOS = 1;
+    static final int THREES = 2;
+    static final int FOURS = 3;
+    static final int FIVES = 4;
+    static final int SIXES = 5;
+    static final int TOTAL_WITHOUT_BONUS = 6;
+    static final int BONUS = 7;
+    static final int FINAL_UPPER_TOTAL = 8;
+    static final int THREE_OF_A_KIND = 9;
+    static final int FOUR_OF_A_KIND = 10;
+    static final int FULL_HOUSE = 11;
+    static final int SMALL_STRAIGHT = 12;
+    static final int LARGE_STRAIGHT = 13;
+    static final int YAHTZEE = 14;
+    static final int CHANCE = 15;
+    static final int FINAL_LOWER_TOTAL = 16;
+    static final int FINAL_TOTAL = 17;
+
+    static final int ALL_FIELDS = (1 << NUMBER_OF_FIELDS) - 1;
+    static final int UPPER_SECTION = 0b111111;
+    static final int LOWER_SECTION = 0b1111111 << THREE_OF_A_KIND;
+
+    private final int size;
+    private final String[] players;
+    private final int[][] columns;
+    private final int[] filled;
+    private final int[] upperSectionTotals;
+    private final int[] lowerSectionTotals;
+    private int finishedRows;
+
+    /**
+     * Constructor creating a board of empty score cards.
+     *
+     * @param size1 Number of players.
+     * @throws IllegalArgumentException if the number of players is negative.
+     */
+    public ScoreBoard(int size1) {
+        if(size1 < 0)
+            throw new IllegalArgumentException("Invalid input: The number of players cannot be negative.");
+        size = size1;
+        players = new String[size];
+        Arrays.fill(players, "");
+        columns = new int[NUMBER_OF_FIELDS][size];
+        for(int[] column : columns)
+            Arrays.fill(column, -1);
+        filled = new int[size];
+        upperSectionTotals = new int[size];
+        lowerSectionTotals = new int[size];
+    }
+
+    /**
+     * Returns the number of players on the board.
+     *
+     * @return The number of players.
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns the score card of a player, a view that reads and writes this board.
+     *
+     * @param row Index of the player.
+     * @return The score card of the player.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public Score getScore(int row) {
+        checkRow(row);
+        return new Score(this, row);
+    }
+
+    /**
+     * Copies the field values of a player into a caller-supplied array, without creating a view of the row.
+     *
+     * @param row Index of the player.
+     * @param fieldValues Array of at least {@value #NUMBER_OF_FIELDS} elements that receives the values; -1 marks an empty field.
+     * @return The given array.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public int[] getFieldValues(int row, int[] fieldValues) {
+        checkRow(row);
+        for(int field = 0; field < NUMBER_OF_FIELDS; field++)
+            fieldValues[field] = columns[field][row];
+        return fieldValues;
+    }
+
+    /**
+     * Gets the empty fields of a player as a bitmask, without creating a view of the row.
+     *
+     * @param row Index of the player.
+     * @return Bitmask where bit i is set if field i is empty.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public int getEmptyFieldsMask(int row) {
+        checkRow(row);
+        return ~filled[row] & ALL_FIELDS;
+    }
+
+    /**
+     * Checks if every field of a player is filled, without creating a view of the row.
+     *
+     * @param row Index of the player.
+     * @return True if the player is finished.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public boolean isFinished(int row) {
+        checkRow(row);
+        return filled[row] == ALL_FIELDS;
+    }
+
+    /**
+     * Returns the number of players whose every field is filled.
+     *
+     * @return The number of finished players.
+     */
+    public int getFinishedCount() { return finishedRows; }
+
+    /**
+     * Copies the values of one field of every player into a caller-supplied array.
+     *
+     * @param field Index of the field (0-17).
+     * @param values Array of at least {@link #size()} elements that receives the values.
+     * @return The given array.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    public int[] getColumn(int field, int[] values) {
+        System.arraycopy(column(field), 0, values, 0, size);
+        return values;
+    }
+
+    /**
+     * Finds the highest value of a field over all players.
+     *
+     * @param field Index of the field (0-17).
+     * @return The highest value, or -1 if there are no players or the field is empty for every player.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    public int max(int field) {
+        int[] column = column(field);
+        IntStream values = Arrays.stream(column);
+        if(size >= PARALLEL_THRESHOLD)
+            values = values.parallel();
+        return Math.max(values.max().orElse(-1), -1);
+    }
+
+    /**
+     * Adds up the filled values of a field over all players; empty fields and a missed bonus count as zero.
+     *
+     * @param field Index of the field (0-17).
+     * @return The sum of the values.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    public long sum(int field) {
+        int[] column = column(field);
+        IntStream values = Arrays.stream(column);
+        if(size >= PARALLEL_THRESHOLD)
+            values = values.parallel();
+        return values.filter(value -> value > 0).asLongStream().sum();
+    }
+
+    /**
+     * Finds the players for whom a field has a given value.
+     *
+     * @param field Index of the field (0-17).
+     * @param value The value to look for.
+     * @return The indices of the players in ascending order.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    public int[] rowsWithValue(int field, int value) {
+        int[] column = column(field);
+        IntStream rows = IntStream.range(0, size);
+        if(size >= PARALLEL_THRESHOLD)
+            rows = rows.parallel();
+        return rows.filter(row -> column[row] == value).toArray();
+    }
+
+    /**
+     * Returns the column of a field.
+     *
+     * @param field Index of the field (0-17).
+     * @return The values of the field, indexed by player.
+     * @throws IllegalArgumentException if the field is out of range.
+     */
+    private int[] column(int field) {
+        if(field < 0 || field >= NUMBER_OF_FIELDS)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        return columns[field];
+    }
+
+    /**
+     * Checks that a player index is in range.
+     *
+     * @param row Index of the player.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    private void checkRow(int row) {
+        if(row < 0 || row >= size)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+    }
+
+    /**
+     * Gets the name of a player.
+     *
+     * @param row Index of the player.
+     * @return The name; empty if it has not been set.
+     */
+    String getPlayer(int row) { return players[row]; }
+
+    /**
+     * Sets the name of a player.
+     *
+     * @param row Index of the player.
+     * @param player The name.
+     */
+    void setPlayer(int row, String player) { players[row] = player; }
+
+    /**
+     * Gets the value of a field.
+     *
+     * @param row Index of the player.
+     * @param field Index of the field.
+     * @return The value; -1 if the field is empty.
+     */
+    int get(int row, int field) { return columns[field][row]; }
+
+    /**
+     * Gets the filled fields of a player.
+     *
+     * @param row Index of the player.
+     * @return Bitmask where bit i is set if field i is filled.
+     */
+    int getFilled(int row) { return filled[row]; }
+
+    /**
+     * Gets the running total of the filled upper section fields of a player.
+     *
+     * @param row Index of the player.
+     * @return The upper section total.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public int getUpperSectionTotal(int row) {
+        checkRow(row);
+        return upperSectionTotals[row];
+    }
+
+    /**
+     * Gets the running total of the filled lower section fields of a player.
+     *
+     * @param row Index of the player.
+     * @return The lower section total.
+     */
+    int getLowerSectionTotal(int row) { return lowerSectionTotals[row]; }
+
+    /**
+     * Stores the value of a field and keeps the filled bitmask, the section totals and the
+     * number of finished players up to date.
+     *
+     * @param row Index of the player.
+     * @param field Index of the field.
+     * @param value The new value; -1 marks the field as empty.
+     */
+    void store(int row, int field, int value) {
+        int bit = 1 << field;
+        int oldFilled = filled[row];
+        int difference = (value == -1 ? 0 : value) - ((oldFilled & bit) != 0 ? columns[field][row] : 0);
+        int newFilled = value == -1 ? oldFilled & ~bit : oldFilled | bit;
+        columns[field][row] = value;
+        filled[row] = newFilled;
+
+        if((bit & UPPER_SECTION) != 0)
+            upperSectionTotals[row] += difference;
+        else if((bit & LOWER_SECTION) != 0)
+            lowerSectionTotals[row] += difference;
+
+        if(oldFilled != ALL_FIELDS && newFilled == ALL_FIELDS)
+            finishedRows++;
+        else if(oldFilled == ALL_FIELDS && newFilled != ALL_FIELDS)
+            finishedRows--;
+    }
+}
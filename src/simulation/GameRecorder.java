@@ -0,0 +1,134 @@
+package simulation;
+
+import java.util.Arrays;
+
+import dice.Dice;
+import logic.Logic;
+
+/**
+ * Plays a game turn by turn and records its turns, so that it can be replayed exactly with a
+ * {@link GameReplay}. The dice of every turn are thrown from the generator the replay derives
+ * for that turn from the seed of the game.
+ *
+ * A turn is played by {@link #roll(int)}, up to two calls of {@link #reroll(int)} and
+ * {@link #score(int)}; the game is available in between, for example to ask the
+ * {@link logic.HoldAdvisor} which dice to hold. The scores of the last roll are calculated by
+ * {@link #calculateScore()}, not by the game: {@link Logic#calculateScore(int, int[])} scores a
+ * rolled Yahtzee as it calculates, so calculating twice would score the Yahtzee bonus twice.
+ */
+public final class GameRecorder {
+    private final String[] players;
+    private final long seed;
+    private final Logic logic;
+    private final int[] scores = new int[19];
+    private int[] turns = new int[32];
+    private int numberOfTurns;
+
+    private int player = -1;
+    private int rolls;
+    private boolean calculated;
+    private final int[] holds = new int[2];
+
+    /**
+     * Constructor creating the recorder of a new game.
+     *
+     * @param players1 The names of the players.
+     * @param seed1 The seed of the game.
+     * @param bulkThrows True to throw the dice in bulk mode, see {@link Logic#setBulkThrows(boolean)}.
+     */
+    public GameRecorder(String[] players1, long seed1, boolean bulkThrows) {
+        players = players1.clone();
+        seed = seed1;
+        logic = new Logic(players, Dice.seeded(seed));
+        logic.setBulkThrows(bulkThrows);
+    }
+
+    /**
+     * Returns the game being recorded. It must only be changed through the recorder.
+     *
+     * @return The game.
+     */
+    public Logic getLogic() { return logic; }
+
+    /**
+     * Starts the turn of a player with the first roll.
+     *
+     * @param player1 The index of the player.
+     * @throws IllegalArgumentException if a turn is in progress or the player has no turns left.
+     */
+    public void roll(int player1) {
+        if(player != -1)
+            throw new IllegalArgumentException("Invalid input: A turn is in progress.");
+        if(player1 < 0 || player1 >= players.length)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        if(logic.isPlayerDone(player1))
+            throw new IllegalArgumentException("Invalid input: The player has no turns left.");
+        GameReplay.startTurn(logic, seed, numberOfTurns);
+        player = player1;
+        rolls = 1;
+        calculated = false;
+    }
+
+    /**
+     * Holds some dice and rolls the others.
+     *
+     * @param savedDices The dice to hold, bit i standing for die i.
+     * @throws IllegalArgumentException if no turn is in progress, the dice were rolled three times or the mask is out of range.
+     */
+    public void reroll(int savedDices) {
+        if(player == -1 || rolls == 3 || calculated)
+            throw new IllegalArgumentException("Invalid input: No roll left.");
+        if(savedDices >>> 5 != 0)
+            throw new IllegalArgumentException("Invalid input: Dice out of range.");
+        holds[rolls - 1] = savedDices;
+        rolls++;
+        logic.setSavedDices(savedDices);
+        logic.throwDices();
+    }
+
+    /**
+     * Calculates the scores of the last roll for every field, once per turn; the turn cannot be
+     * rolled again afterwards.
+     *
+     * @return The scores, see {@link Logic#calculateScore(int, int[])}; element 18 is 1 if the dice are a Yahtzee that scored itself.
+     * @throws IllegalArgumentException if no turn is in progress.
+     */
+    public int[] calculateScore() {
+        if(player == -1)
+            throw new IllegalArgumentException("Invalid input: No turn in progress.");
+        if(!calculated) {
+            logic.calculateScore(player, scores);
+            calculated = true;
+        }
+        return scores.clone();
+    }
+
+    /**
+     * Ends the turn by filling in a field with the dice, unless they are a Yahtzee that scores itself.
+     *
+     * @param field The field to fill in; ignored if a Yahtzee scores itself.
+     * @return The field that was filled in, or {@link GameReplay#NO_FIELD} if a Yahtzee scored itself.
+     * @throws IllegalArgumentException if no turn is in progress or the field cannot be filled in.
+     */
+    public int score(int field) {
+        if(player == -1)
+            throw new IllegalArgumentException("Invalid input: No turn in progress.");
+        calculateScore();
+        field = GameReplay.finishTurn(logic, player, field, scores);
+
+        if(numberOfTurns == turns.length)
+            turns = Arrays.copyOf(turns, 2 * numberOfTurns);
+        turns[numberOfTurns++] = GameReplay.encodeTurn(player, rolls, rolls > 1 ? holds[0] : 0, rolls > 2 ? holds[1] : 0, field);
+        player = -1;
+        return field;
+    }
+
+    /**
+     * Creates the replay of the turns recorded so far.
+     *
+     * @return The replay.
+     */
+    public GameReplay toReplay() {
+        return new GameReplay(players, seed, logic.isBulkThrows(), Arrays.copyOf(turns, numberOfTurns));
+    }
+}
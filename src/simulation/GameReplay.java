@@ -0,0 +1,270 @@
+package simulation;
+
+import dice.Dice;
+import logic.Logic;
+
+/**
+ * Replays a game from its seed and its list of turns, without any user interface, to
+ * reproduce a game exactly or to audit recorded games at full speed.
+ *
+ * Every turn throws its dice from its own generator, derived from the seed of the game and
+ * the number of the turn, so a turn replays the same way wherever the replay starts. A turn
+ * is packed into an int: the player, the number of rolls, the dice held before the second
+ * and third roll and the field that was filled in, see {@link #encodeTurn(int, int, int, int, int)}.
+ * Turns are played like {@link Simulator} plays them: the score is calculated after the last
+ * roll, and a Yahtzee scores itself without filling in a field.
+ *
+ * The replay keeps a checkpoint of the score cards and dice every {@value #CHECKPOINT_INTERVAL}
+ * turns, so seeking to a turn restores at most one checkpoint and replays fewer than
+ * {@value #CHECKPOINT_INTERVAL} turns. Games are recorded with {@link GameRecorder}.
+ */
+public final class GameReplay {
+    /**
+     * Number of turns between two checkpoints.
+     */
+    public static final int CHECKPOINT_INTERVAL = 8;
+
+    /**
+     * Field of a turn in which a Yahtzee scored itself.
+     */
+    public static final int NO_FIELD = 31;
+
+    private static final int SCORING_FIELDS = 0b1111111000111111;
+    private static final int MAX_PLAYERS = 1 << 15;
+
+    private final String[] players;
+    private final long seed;
+    private final boolean bulkThrows;
+    private final int[] turns;
+    private final int[][][] checkpointScores;
+    private final int[] checkpointDiceStates;
+
+    /**
+     * Constructor creating the replay of a game; the game is replayed once to check its turns
+     * and to create the checkpoints.
+     *
+     * @param players1 The names of the players.
+     * @param seed1 The seed of the game.
+     * @param bulkThrows1 True if the dice were thrown in bulk mode, see {@link Logic#setBulkThrows(boolean)}.
+     * @param turns1 The turns, as packed by {@link #encodeTurn(int, int, int, int, int)}.
+     * @throws IllegalArgumentException if there are no players or a turn cannot be played.
+     */
+    public GameReplay(String[] players1, long seed1, boolean bulkThrows1, int[] turns1) {
+        if(players1.length < 1 || players1.length > MAX_PLAYERS)
+            throw new IllegalArgumentException("Invalid input: The number of players must be between 1 and " + MAX_PLAYERS + ".");
+        players = players1.clone();
+        seed = seed1;
+        bulkThrows = bulkThrows1;
+        turns = turns1.clone();
+
+        int numberOfCheckpoints = turns.length / CHECKPOINT_INTERVAL + 1;
+        checkpointScores = new int[numberOfCheckpoints][][];
+        checkpointDiceStates = new int[numberOfCheckpoints];
+        Logic logic = newLogic();
+        int[] scores = new int[19];
+        for(int turn = 0; turn < turns.length; turn++) {
+            if(turn % CHECKPOINT_INTERVAL == 0)
+                checkpoint(logic, turn / CHECKPOINT_INTERVAL);
+            playTurn(logic, turn, scores);
+        }
+        if(turns.length % CHECKPOINT_INTERVAL == 0)
+            checkpoint(logic, turns.length / CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Packs a turn into an int.
+     *
+     * @param player The index of the player (0-32767).
+     * @param rolls The number of rolls (1-3).
+     * @param firstHold The dice held before the second roll, bit i standing for die i.
+     * @param secondHold The dice held before the third roll.
+     * @param field The field that was filled in, or {@link #NO_FIELD} if a Yahtzee scored itself.
+     * @return The packed turn.
+     * @throws IllegalArgumentException if a value is out of range.
+     */
+    public static int encodeTurn(int player, int rolls, int firstHold, int secondHold, int field) {
+        if(player < 0 || player >= MAX_PLAYERS || rolls < 1 || rolls > 3 || (firstHold | secondHold) >>> 5 != 0 || field < 0 || field > NO_FIELD)
+            throw new IllegalArgumentException("Invalid input: Turn out of range.");
+        return player << 17 | secondHold << 12 | firstHold << 7 | rolls << 5 | field;
+    }
+
+    /**
+     * Gets the player of a packed turn.
+     *
+     * @param turn The packed turn.
+     * @return The index of the player.
+     */
+    public static int getPlayer(int turn) { return turn >>> 17; }
+
+    /**
+     * Gets the number of rolls of a packed turn.
+     *
+     * @param turn The packed turn.
+     * @return The number of rolls (1-3).
+     */
+    public static int getRolls(int turn) { return turn >>> 5 & 3; }
+
+    /**
+     * Gets the dice held before a roll of a packed turn.
+     *
+     * @param turn The packed turn.
+     * @param roll The roll (2-3).
+     * @return The held dice, bit i standing for die i.
+     */
+    public static int getHold(int turn, int roll) { return turn >>> (roll == 2 ? 7 : 12) & 0b11111; }
+
+    /**
+     * Gets the field filled in by a packed turn.
+     *
+     * @param turn The packed turn.
+     * @return The field, or {@link #NO_FIELD} if a Yahtzee scored itself.
+     */
+    public static int getField(int turn) { return turn & 0b11111; }
+
+    /**
+     * Returns the number of turns of the game.
+     *
+     * @return The number of turns.
+     */
+    public int getNumberOfTurns() { return turns.length; }
+
+    /**
+     * Returns the turns of the game.
+     *
+     * @return A copy of the packed turns.
+     */
+    public int[] getTurns() { return turns.clone(); }
+
+    /**
+     * Returns the seed of the game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Replays the whole game.
+     *
+     * @return The game after its last turn.
+     */
+    public Logic replay() { return seek(turns.length); }
+
+    /**
+     * Restores the game as it was before a turn, from the nearest checkpoint.
+     *
+     * @param turn The number of turns played (0 to {@link #getNumberOfTurns()}).
+     * @return The game after the given number of turns.
+     * @throws IllegalArgumentException if the turn is out of range.
+     */
+    public Logic seek(int turn) {
+        if(turn < 0 || turn > turns.length)
+            throw new IllegalArgumentException("Invalid input: Index out of range.");
+        int checkpoint = turn / CHECKPOINT_INTERVAL;
+        Logic logic = newLogic();
+        logic.setScores(checkpointScores[checkpoint]);
+        logic.setDiceState(checkpointDiceStates[checkpoint]);
+
+        int[] scores = new int[19];
+        for(int i = checkpoint * CHECKPOINT_INTERVAL; i < turn; i++)
+            playTurn(logic, i, scores);
+        return logic;
+    }
+
+    /**
+     * Creates the game before its first turn.
+     *
+     * @return The game.
+     */
+    private Logic newLogic() {
+        Logic logic = new Logic(players, Dice.seeded(seed));
+        logic.setBulkThrows(bulkThrows);
+        return logic;
+    }
+
+    /**
+     * Stores the score cards and dice of the game as a checkpoint.
+     *
+     * @param logic The game.
+     * @param checkpoint The index of the checkpoint.
+     */
+    private void checkpoint(Logic logic, int checkpoint) {
+        checkpointScores[checkpoint] = logic.getScores();
+        checkpointDiceStates[checkpoint] = logic.getDiceState();
+    }
+
+    /**
+     * Plays a recorded turn.
+     *
+     * @param logic The game.
+     * @param index The number of the turn in the game.
+     * @param scores Buffer of at least 19 elements for the calculated scores.
+     * @throws IllegalArgumentException if the turn cannot be played.
+     */
+    private void playTurn(Logic logic, int index, int[] scores) {
+        int turn = turns[index];
+        int player = getPlayer(turn);
+        int rolls = getRolls(turn);
+        if(player >= players.length || rolls == 0)
+            throw new IllegalArgumentException("Invalid input: Turn " + index + " is out of range.");
+
+        startTurn(logic, seed, index);
+        for(int roll = 2; roll <= rolls; roll++) {
+            logic.setSavedDices(getHold(turn, roll));
+            logic.throwDices();
+        }
+        if(logic.isPlayerDone(player))
+            throw new IllegalArgumentException("Invalid input: Turn " + index + " is played by a player without turns left.");
+        logic.calculateScore(player, scores);
+        if(finishTurn(logic, player, getField(turn), scores) != getField(turn))
+            throw new IllegalArgumentException("Invalid input: Turn " + index + " does not score as recorded.");
+    }
+
+    /**
+     * Starts a turn with the first roll, thrown from the generator of the turn.
+     *
+     * @param logic The game.
+     * @param seed The seed of the game.
+     * @param index The number of the turn in the game.
+     */
+    static void startTurn(Logic logic, long seed, int index) {
+        logic.setRandom(Dice.seeded(turnSeed(seed, index)));
+        logic.unsaveDices();
+        logic.throwDices();
+    }
+
+    /**
+     * Ends a turn by filling in a field, unless the dice are a Yahtzee that scored itself.
+     * The scores must have been calculated once for the last roll; calculating them again
+     * would score a rolled Yahtzee again.
+     *
+     * @param logic The game.
+     * @param player The index of the player.
+     * @param field The field to fill in; ignored if a Yahtzee scored itself.
+     * @param scores The scores calculated by {@link Logic#calculateScore(int, int[])} for the last roll.
+     * @return The field that was filled in, or {@link #NO_FIELD} if a Yahtzee scored itself.
+     * @throws IllegalArgumentException if the field cannot be filled in.
+     */
+    static int finishTurn(Logic logic, int player, int field, int[] scores) {
+        if(scores[18] == -1) {
+            if(field >= NO_FIELD || (SCORING_FIELDS & logic.getEmptyFieldsMask(player) & 1 << field) == 0)
+                throw new IllegalArgumentException("Invalid input: The field cannot be filled in.");
+            logic.saveField(player, field, scores);
+        } else field = NO_FIELD;
+        logic.updateAutomaticValues(player);
+        return field;
+    }
+
+    /**
+     * Derives the seed of the generator of a turn from the seed of the game.
+     *
+     * @param seed The seed of the game.
+     * @param index The number of the turn in the game.
+     * @return The seed of the turn.
+     */
+    private static long turnSeed(long seed, int index) {
+        long z = seed + (index + 1) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
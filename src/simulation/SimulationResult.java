@@ -0,0 +1,139 @@
+package simulation;
+
+import java.util.Arrays;
+
+/**
+ * Collects the final scores of simulated games.
+ *
+ * Scores are counted in a histogram with one entry per final score, so results of any
+ * number of games take constant space and results of several threads are merged by adding
+ * their histograms. Every further Yahtzee adds 100 points, so the histogram grows when a
+ * score above its current size occurs.
+ */
+public final class SimulationResult {
+    /**
+     * Highest final score possible without a further Yahtzee, the initial size of the histogram.
+     */
+    public static final int MAX_SCORE_WITHOUT_BONUS = 375;
+
+    private long[] distribution = new long[MAX_SCORE_WITHOUT_BONUS + 1];
+    private int maxScore = -1;
+    private long games;
+    private long scores;
+    private long sum;
+    private double sumOfSquares;
+    private long nanos;
+
+    /**
+     * Default constructor creating an empty result.
+     */
+    public SimulationResult() {}
+
+    /**
+     * Records the final score of one player.
+     *
+     * @param score The final score.
+     * @throws IllegalArgumentException if the score is negative.
+     */
+    public void addScore(int score) {
+        if(score < 0)
+            throw new IllegalArgumentException("Invalid input: Score cannot be negative.");
+        if(score >= distribution.length)
+            distribution = Arrays.copyOf(distribution, Math.max(score + 1, 2 * distribution.length));
+        distribution[score]++;
+        maxScore = Math.max(maxScore, score);
+        scores++;
+        sum += score;
+        sumOfSquares += (double) score * score;
+    }
+
+    /**
+     * Records that a game has been completed.
+     */
+    public void addGame() { games++; }
+
+    /**
+     * Adds the games and scores of another result to this one.
+     *
+     * @param other The result to add.
+     */
+    public void merge(SimulationResult other) {
+        if(other.maxScore >= distribution.length)
+            distribution = Arrays.copyOf(distribution, other.maxScore + 1);
+        for(int score = 0; score <= other.maxScore; score++)
+            distribution[score] += other.distribution[score];
+        maxScore = Math.max(maxScore, other.maxScore);
+        games += other.games;
+        scores += other.scores;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+    }
+
+    /**
+     * Sets the wall-clock time the simulation took.
+     *
+     * @param nanos1 The elapsed time in nanoseconds.
+     */
+    void setNanos(long nanos1) { nanos = nanos1; }
+
+    /**
+     * Returns the number of completed games.
+     *
+     * @return The number of games.
+     */
+    public long getGames() { return games; }
+
+    /**
+     * Returns the number of recorded final scores, one per player of every game.
+     *
+     * @return The number of scores.
+     */
+    public long getScores() { return scores; }
+
+    /**
+     * Returns the wall-clock time of the simulation.
+     *
+     * @return The elapsed time in seconds.
+     */
+    public double getSeconds() { return nanos / 1e9; }
+
+    /**
+     * Returns the throughput of the simulation.
+     *
+     * @return The number of games completed per second.
+     */
+    public double getGamesPerSecond() { return nanos == 0 ? 0 : games / getSeconds(); }
+
+    /**
+     * Returns the mean final score.
+     *
+     * @return The mean, or 0 if no score has been recorded.
+     */
+    public double getMean() { return scores == 0 ? 0 : (double) sum / scores; }
+
+    /**
+     * Returns the standard deviation of the final scores.
+     *
+     * @return The population standard deviation, or 0 if no score has been recorded.
+     */
+    public double getStandardDeviation() {
+        if(scores == 0)
+            return 0;
+        double mean = getMean();
+        return Math.sqrt(Math.max(0, sumOfSquares / scores - mean * mean));
+    }
+
+    /**
+     * Returns the highest recorded final score.
+     *
+     * @return The highest score, or -1 if no score has been recorded.
+     */
+    public int getMaxScore() { return maxScore; }
+
+    /**
+     * Returns how often every final score occurred.
+     *
+     * @return Array of {@link #getMaxScore()} + 1 elements where element i is the number of times score i occurred.
+     */
+    public long[] getDistribution() { return Arrays.copyOf(distribution, maxScore + 1); }
+}
@@ -0,0 +1,210 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import logic.HoldAdvisor;
+import logic.Logic;
+import logic.Strategy;
+
+/**
+ * Plays complete games between computer players without any user interface, to measure
+ * how well the computer strategy scores.
+ *
+ * Games are split evenly between the threads of a fixed pool. Every thread plays its games
+ * on its own {@link Logic} instances with its own {@link HoldAdvisor}, and collects the
+ * final scores in its own {@link SimulationResult}, so the threads share nothing but the
+ * read-only {@link Strategy} table until their results are merged. Every thread throws its
+ * dice in bulk mode from its own generator, split from one root generator, so a simulation
+ * created with a seed plays the same games every time it runs with the same number of threads.
+ */
+public class Simulator {
+    private final int threads;
+    private final int numberOfPlayers;
+    private final SplittableRandom random;
+
+    /**
+     * Constructor creating a simulator of one-player games using all available processors.
+     */
+    public Simulator() { this(Runtime.getRuntime().availableProcessors(), 1); }
+
+    /**
+     * Constructor creating a simulator with a given number of threads and players per game.
+     *
+     * @param threads1 Number of threads playing games.
+     * @param numberOfPlayers1 Number of computer players in every game.
+     * @throws IllegalArgumentException if a number is less than one.
+     */
+    public Simulator(int threads1, int numberOfPlayers1) { this(threads1, numberOfPlayers1, new SplittableRandom()); }
+
+    /**
+     * Constructor creating a reproducible simulator.
+     *
+     * @param threads1 Number of threads playing games.
+     * @param numberOfPlayers1 Number of computer players in every game.
+     * @param seed Seed the dice of all games are derived from.
+     * @throws IllegalArgumentException if a number is less than one.
+     */
+    public Simulator(int threads1, int numberOfPlayers1, long seed) { this(threads1, numberOfPlayers1, new SplittableRandom(seed)); }
+
+    /**
+     * Constructor creating a simulator whose threads split their generators from a root generator.
+     *
+     * @param threads1 Number of threads playing games.
+     * @param numberOfPlayers1 Number of computer players in every game.
+     * @param random1 The root generator.
+     * @throws IllegalArgumentException if a number is less than one.
+     */
+    private Simulator(int threads1, int numberOfPlayers1, SplittableRandom random1) {
+        if(threads1 < 1)
+            throw new IllegalArgumentException("Invalid input: The number of threads must be at least 1.");
+        if(numberOfPlayers1 < 1)
+            throw new IllegalArgumentException("Invalid input: The number of players must be at least 1.");
+        threads = threads1;
+        numberOfPlayers = numberOfPlayers1;
+        random = random1;
+    }
+
+    /**
+     * Plays a number of complete games.
+     *
+     * @param games Number of games to play.
+     * @return The final scores of all players of all games.
+     * @throws IllegalArgumentException if the number of games is negative.
+     */
+    public SimulationResult run(long games) {
+        if(games < 0)
+            throw new IllegalArgumentException("Invalid input: The number of games cannot be negative.");
+        Strategy strategy = Strategy.getInstance();
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        SimulationResult result = new SimulationResult();
+        try {
+            List<Future<SimulationResult>> futures = new ArrayList<>();
+            for(int thread = 0; thread < threads; thread++) {
+                long share = games / threads + (thread < games % threads ? 1 : 0);
+                SplittableRandom threadRandom = random.split();
+                futures.add(pool.submit(() -> play(share, new HoldAdvisor(strategy), threadRandom)));
+            }
+            for(Future<SimulationResult> future : futures)
+                result.merge(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        result.setNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays games on the calling thread.
+     *
+     * @param games Number of games to play.
+     * @param advisor The advisor used by this thread only.
+     * @param threadRandom The generator used by this thread only.
+     * @return The final scores of the games.
+     */
+    private SimulationResult play(long games, HoldAdvisor advisor, SplittableRandom threadRandom) {
+        String[] players = new String[numberOfPlayers];
+        for(int i = 0; i < numberOfPlayers; i++)
+            players[i] = "Computer " + (i + 1);
+
+        SimulationResult result = new SimulationResult();
+        int[] scores = new int[19];
+        int[] emptyFields = new int[18];
+        for(long game = 0; game < games; game++) {
+            Logic logic = new Logic(players, threadRandom);
+            logic.setBulkThrows(true);
+            while(!logic.isGameOver())
+                for(int playerIndex = 0; playerIndex < numberOfPlayers; playerIndex++)
+                    if(!logic.isPlayerDone(playerIndex))
+                        playTurn(logic, playerIndex, advisor, scores, emptyFields);
+
+            for(int playerIndex = 0; playerIndex < numberOfPlayers; playerIndex++)
+                result.addScore(logic.getPlayerScore(playerIndex, scores)[17]);
+            result.addGame();
+        }
+        return result;
+    }
+
+    /**
+     * Plays one turn of a computer player the way the console and GUI games do.
+     *
+     * @param logic The game.
+     * @param playerIndex Index of the player.
+     * @param advisor The advisor choosing the dice to save.
+     * @param scores Buffer of at least 19 elements for the calculated scores.
+     * @param emptyFields Buffer of at least 18 elements for the empty fields.
+     */
+    private static void playTurn(Logic logic, int playerIndex, HoldAdvisor advisor, int[] scores, int[] emptyFields) {
+        logic.throwDices();
+        for(int rollsLeft = 2; rollsLeft > 0; rollsLeft--) {
+            int savedDices = logic.getBestSavedDices(playerIndex, rollsLeft, advisor);
+            if(savedDices == 0b11111)
+                break;
+            logic.setSavedDices(savedDices);
+            logic.throwDices();
+        }
+
+        logic.calculateScore(playerIndex, scores);
+        if(scores[18] == -1) {
+            logic.getEmptyFields(playerIndex, emptyFields);
+            logic.saveField(playerIndex, logic.getBestIndex(emptyFields, scores), scores);
+        }
+        logic.updateAutomaticValues(playerIndex);
+        logic.unsaveDices();
+    }
+
+    /**
+     * Runs a simulation and prints its report.
+     *
+     * @param args Optional number of games, number of threads, number of players per game and seed.
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        Simulator simulator = args.length > 3 ? new Simulator(threads, players, Long.parseLong(args[3])) : new Simulator(threads, players);
+        SimulationResult result = simulator.run(games);
+
+        System.out.printf("Games:              %d (%d players each, %d threads)%n", result.getGames(), players, threads);
+        System.out.printf("Time:               %.2f s%n", result.getSeconds());
+        System.out.printf("Games per second:   %.0f%n", result.getGamesPerSecond());
+        System.out.printf("Mean score:         %.3f%n", result.getMean());
+        System.out.printf("Standard deviation: %.3f%n", result.getStandardDeviation());
+        System.out.println();
+        printDistribution(result);
+    }
+
+    /**
+     * Prints the score distribution in buckets of ten points.
+     *
+     * @param result The result to print.
+     */
+    private static void printDistribution(SimulationResult result) {
+        long[] distribution = result.getDistribution();
+        long[] buckets = new long[distribution.length / 10 + 1];
+        long largest = 1;
+        for(int score = 0; score < distribution.length; score++) {
+            buckets[score / 10] += distribution[score];
+            largest = Math.max(largest, buckets[score / 10]);
+        }
+
+        System.out.printf("%-9s %10s %8s%n", "Score", "Count", "Share");
+        for(int bucket = 0; bucket < buckets.length; bucket++)
+            if(buckets[bucket] > 0)
+                System.out.printf("%3d-%-5d %10d %7.2f%% %s%n", bucket * 10, bucket * 10 + 9, buckets[bucket],
+                        100.0 * buckets[bucket] / result.getScores(), "#".repeat((int) (50 * buckets[bucket] / largest)));
+    }
+}